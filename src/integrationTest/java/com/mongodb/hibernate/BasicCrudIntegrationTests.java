@@ -306,6 +306,41 @@ class BasicCrudIntegrationTests implements SessionFactoryScopeAware {
         }
     }
 
+    @Nested
+    class UpsertTests {
+
+        @Test
+        void testUpsertInsertsDocument() {
+            sessionFactoryScope.inStatelessTransaction(
+                    session -> session.upsert(new ItemDynamicallyUpdated(1, true, true)));
+
+            assertCollectionContainsExactly(
+                    """
+                    {
+                        _id: 1,
+                        primitiveBoolean: true,
+                        boxedBoolean: true
+                    }
+                    """);
+        }
+
+        @Test
+        void testUpsertUpdatesDocument() {
+            sessionFactoryScope.inTransaction(session -> session.persist(new ItemDynamicallyUpdated(1, true, true)));
+            sessionFactoryScope.inStatelessTransaction(
+                    session -> session.upsert(new ItemDynamicallyUpdated(1, false, null)));
+
+            assertCollectionContainsExactly(
+                    """
+                    {
+                        _id: 1,
+                        primitiveBoolean: false,
+                        boxedBoolean: null
+                    }
+                    """);
+        }
+    }
+
     @Nested
     class SelectTests {
 
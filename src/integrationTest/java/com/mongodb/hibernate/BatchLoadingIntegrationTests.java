@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.bson.BsonInt32;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistry;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.ServiceRegistryScopeAware;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@ServiceRegistry
+@DomainModel(annotatedClasses = {BatchLoadingIntegrationTests.Item.class, BatchLoadingIntegrationTests.Part.class})
+@ExtendWith(MongoExtension.class)
+class BatchLoadingIntegrationTests implements SessionFactoryScopeAware, ServiceRegistryScopeAware {
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    private TestCommandListener testCommandListener;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @Override
+    public void injectServiceRegistryScope(ServiceRegistryScope serviceRegistryScope) {
+        testCommandListener = serviceRegistryScope.getRegistry().requireService(TestCommandListener.class);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        sessionFactoryScope.inTransaction(session -> {
+            for (var id = 1; id <= 5; id++) {
+                var item = new Item(id, "item" + id);
+                session.persist(item);
+                session.persist(new Part(id, "part" + id, item));
+            }
+        });
+        testCommandListener.clear();
+    }
+
+    @Test
+    void testMultiLoadUsesSingleArrayParameter() {
+        sessionFactoryScope.inTransaction(session -> {
+            var items = session.byMultipleIds(Item.class).multiLoad(1, 3, 5);
+            assertThat(items).extracting(item -> item.id).containsExactly(1, 3, 5);
+        });
+        assertSingleAggregateCommandMatchingIds(Item.COLLECTION_NAME, "_id", 1, 3, 5);
+    }
+
+    @Test
+    void testProxiesInitializedInBatch() {
+        sessionFactoryScope.inTransaction(session -> {
+            var items = List.of(
+                    session.getReference(Item.class, 1),
+                    session.getReference(Item.class, 3),
+                    session.getReference(Item.class, 5));
+            Hibernate.initialize(items.get(0));
+            assertThat(items).allMatch(Hibernate::isInitialized);
+        });
+        assertSingleAggregateCommandMatchingIds(Item.COLLECTION_NAME, "_id", 1, 3, 5);
+    }
+
+    @Test
+    void testCollectionsInitializedInBatch() {
+        sessionFactoryScope.inTransaction(session -> {
+            var items = session.byMultipleIds(Item.class).multiLoad(1, 3, 5);
+            testCommandListener.clear();
+            Hibernate.initialize(items.get(0).parts);
+            assertThat(items).allSatisfy(item -> {
+                assertThat(Hibernate.isInitialized(item.parts)).isTrue();
+                assertThat(item.parts).extracting(part -> part.id).containsExactly(item.id);
+            });
+        });
+        assertSingleAggregateCommandMatchingIds(Part.COLLECTION_NAME, "itemId", 1, 3, 5);
+    }
+
+    private void assertSingleAggregateCommandMatchingIds(String collectionName, String idField, int... ids) {
+        var aggregateCommands = testCommandListener.getStartedCommands().stream()
+                .filter(command -> command.containsKey("aggregate"))
+                .toList();
+        assertThat(aggregateCommands).singleElement().satisfies(command -> {
+            assertThat(command.getString("aggregate").getValue()).isEqualTo(collectionName);
+            var match = command.getArray("pipeline").get(0).asDocument().getDocument("$match");
+            assertThat(match.getDocument(idField).getArray("$in"))
+                    .containsExactlyInAnyOrderElementsOf(
+                            IntStream.of(ids).mapToObj(BsonInt32::new).toList());
+        });
+    }
+
+    @Entity(name = "Item")
+    @Table(name = Item.COLLECTION_NAME)
+    @BatchSize(size = 10)
+    static class Item {
+        static final String COLLECTION_NAME = "items";
+
+        @Id
+        int id;
+
+        String name;
+
+        @OneToMany(mappedBy = "item")
+        @BatchSize(size = 10)
+        List<Part> parts;
+
+        Item() {}
+
+        Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "Part")
+    @Table(name = Part.COLLECTION_NAME)
+    static class Part {
+        static final String COLLECTION_NAME = "parts";
+
+        @Id
+        int id;
+
+        String name;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "itemId")
+        Item item;
+
+        Part() {}
+
+        Part(int id, String name, Item item) {
+            this.id = id;
+            this.name = name;
+            this.item = item;
+        }
+    }
+}
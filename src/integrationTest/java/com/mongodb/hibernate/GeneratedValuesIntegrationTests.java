@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import org.bson.BsonDocument;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Generated;
+import org.hibernate.annotations.SourceType;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.ServiceRegistryScope;
+import org.hibernate.testing.orm.junit.ServiceRegistryScopeAware;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@DomainModel(annotatedClasses = GeneratedValuesIntegrationTests.Item.class)
+@ExtendWith(MongoExtension.class)
+class GeneratedValuesIntegrationTests implements SessionFactoryScopeAware, ServiceRegistryScopeAware {
+
+    @InjectMongoCollection("items")
+    private static MongoCollection<BsonDocument> mongoCollection;
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    private TestCommandListener testCommandListener;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @Override
+    public void injectServiceRegistryScope(ServiceRegistryScope serviceRegistryScope) {
+        this.testCommandListener = serviceRegistryScope.getRegistry().requireService(TestCommandListener.class);
+    }
+
+    @Test
+    void testInsertReturnsGeneratedValues() {
+        var item = new Item(1, "first");
+        sessionFactoryScope.inTransaction(session -> {
+            testCommandListener.clear();
+            session.persist(item);
+            session.flush();
+            assertThat(testCommandListener.getStartedCommands())
+                    .singleElement()
+                    .satisfies(command -> assertThat(command.getFirstKey()).isEqualTo("findAndModify"));
+        });
+
+        assertThat(item.createdAt).isNotNull();
+        assertThat(item.updatedAt).isNotNull();
+        assertThat(item.generatedAt).isNotNull();
+        var document = mongoCollection.find().first();
+        assertThat(document).isNotNull();
+        assertThat(document.getDateTime("createdAt").getValue()).isEqualTo(item.createdAt.toEpochMilli());
+        assertThat(document.getDateTime("updatedAt").getValue()).isEqualTo(item.updatedAt.toEpochMilli());
+        assertThat(document.getDateTime("generatedAt").getValue()).isEqualTo(item.generatedAt.toEpochMilli());
+    }
+
+    @Test
+    void testUpdateReturnsGeneratedValues() throws InterruptedException {
+        var inserted = new Item(1, "first");
+        sessionFactoryScope.inTransaction(session -> session.persist(inserted));
+        // ensure that the timestamp the DBMS generates for the update differs from the one generated for the insert
+        Thread.sleep(10);
+
+        var updated = sessionFactoryScope.fromTransaction(session -> {
+            var item = session.find(Item.class, 1);
+            testCommandListener.clear();
+            item.name = "second";
+            session.flush();
+            assertThat(testCommandListener.getStartedCommands())
+                    .singleElement()
+                    .satisfies(command -> assertThat(command.getFirstKey()).isEqualTo("findAndModify"));
+            return item;
+        });
+
+        assertThat(updated.createdAt).isEqualTo(inserted.createdAt);
+        assertThat(updated.updatedAt).isAfter(inserted.updatedAt);
+        var document = mongoCollection.find().first();
+        assertThat(document).isNotNull();
+        assertThat(document.getString("name").getValue()).isEqualTo("second");
+        assertThat(document.getDateTime("updatedAt").getValue()).isEqualTo(updated.updatedAt.toEpochMilli());
+    }
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        int id;
+
+        String name;
+
+        @CreationTimestamp(source = SourceType.DB)
+        @Column(updatable = false)
+        Instant createdAt;
+
+        @UpdateTimestamp(source = SourceType.DB)
+        Instant updatedAt;
+
+        @Generated(sql = "current_timestamp")
+        @Column(updatable = false)
+        Instant generatedAt;
+
+        Item() {}
+
+        Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
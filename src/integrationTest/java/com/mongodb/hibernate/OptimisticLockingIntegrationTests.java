@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.junit.InjectMongoCollection;
+import com.mongodb.hibernate.junit.MongoExtension;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.bson.BsonDocument;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.hibernate.testing.orm.junit.SessionFactory;
+import org.hibernate.testing.orm.junit.SessionFactoryScope;
+import org.hibernate.testing.orm.junit.SessionFactoryScopeAware;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@SessionFactory(exportSchema = false)
+@DomainModel(annotatedClasses = OptimisticLockingIntegrationTests.Item.class)
+@ExtendWith(MongoExtension.class)
+class OptimisticLockingIntegrationTests implements SessionFactoryScopeAware {
+
+    @InjectMongoCollection("items")
+    private static MongoCollection<BsonDocument> mongoCollection;
+
+    private SessionFactoryScope sessionFactoryScope;
+
+    @Override
+    public void injectSessionFactoryScope(SessionFactoryScope sessionFactoryScope) {
+        this.sessionFactoryScope = sessionFactoryScope;
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        sessionFactoryScope.inTransaction(session -> session.persist(new Item(1, "first")));
+    }
+
+    @Test
+    void testUpdateIncrementsVersion() {
+        sessionFactoryScope.inTransaction(session -> session.find(Item.class, 1).name = "second");
+
+        assertCollectionContainsExactly(
+                """
+                {
+                    _id: 1,
+                    name: "second",
+                    version: 1
+                }
+                """);
+    }
+
+    @Test
+    void testUpdateWithTransactionTimeout() {
+        sessionFactoryScope.inSession(session -> {
+            var transaction = session.getTransaction();
+            transaction.setTimeout(30);
+            transaction.begin();
+            session.find(Item.class, 1).name = "second";
+            transaction.commit();
+        });
+
+        assertCollectionContainsExactly(
+                """
+                {
+                    _id: 1,
+                    name: "second",
+                    version: 1
+                }
+                """);
+    }
+
+    @Test
+    void testStaleUpdateFails() {
+        var item = sessionFactoryScope.fromTransaction(session -> session.find(Item.class, 1));
+        mongoCollection.updateOne(BsonDocument.parse("{_id: 1}"), BsonDocument.parse("{$inc: {version: 1}}"));
+
+        item.name = "second";
+        assertThatThrownBy(() -> sessionFactoryScope.inStatelessTransaction(session -> session.update(item)))
+                .isInstanceOf(StaleObjectStateException.class);
+        assertCollectionContainsExactly(
+                """
+                {
+                    _id: 1,
+                    name: "first",
+                    version: 1
+                }
+                """);
+    }
+
+    @Test
+    void testStaleDeletionFails() {
+        var item = sessionFactoryScope.fromTransaction(session -> session.find(Item.class, 1));
+        mongoCollection.updateOne(BsonDocument.parse("{_id: 1}"), BsonDocument.parse("{$inc: {version: 1}}"));
+
+        assertThatThrownBy(() -> sessionFactoryScope.inStatelessTransaction(session -> session.delete(item)))
+                .isInstanceOf(StaleObjectStateException.class);
+        assertThat(mongoCollection.find()).hasSize(1);
+    }
+
+    @Test
+    void testVersionedDataNotBatchedByDefault() {
+        assertThat(sessionFactoryScope.getSessionFactory().getSessionFactoryOptions().isJdbcBatchVersionedData())
+                .isFalse();
+    }
+
+    private static void assertCollectionContainsExactly(String documentAsJsonObject) {
+        assertThat(mongoCollection.find()).containsExactly(BsonDocument.parse(documentAsJsonObject));
+    }
+
+    @Entity
+    @Table(name = "items")
+    static class Item {
+        @Id
+        int id;
+
+        String name;
+
+        @Version
+        int version;
+
+        Item() {}
+
+        Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
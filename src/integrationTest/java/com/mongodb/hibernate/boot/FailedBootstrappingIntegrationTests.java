@@ -17,67 +17,27 @@
 package com.mongodb.hibernate.boot;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
 
-import com.mongodb.client.MongoClient;
-import com.mongodb.hibernate.junit.InjectMongoClient;
-import com.mongodb.hibernate.junit.MongoExtension;
-import org.bson.BsonDocument;
-import org.bson.BsonString;
 import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 
-@ExtendWith(MongoExtension.class)
 class FailedBootstrappingIntegrationTests {
-    @InjectMongoClient
-    private static MongoClient mongoClient;
 
     @Test
-    @SuppressWarnings("try")
     void couldNotInstantiateDialect() {
-        assertThatThrownBy(() -> {
-                    try (var failPoint = FailPoint.enable(
-                            BsonDocument.parse(
-                                    """
-                                    {
-                                        "configureFailPoint": "failCommand",
-                                        "mode": {
-                                            "times": 1
-                                        },
-                                        "data": {
-                                            "failCommands": ["buildInfo"],
-                                            "errorCode": 1
-                                        }
-                                    }
-                                    """))) {
-                        new MetadataSources().buildMetadata();
-                    }
-                })
-                .hasRootCause(
-                        new RuntimeException(
-                                "Could not instantiate [com.mongodb.hibernate.dialect.MongoDialect], see the earlier exceptions to find out why"));
-    }
-
-    static final class FailPoint implements AutoCloseable {
-        private final BsonDocument failPointDocument;
-
-        private FailPoint(BsonDocument failPointDocument) {
-            this.failPointDocument = failPointDocument;
-        }
-
-        static FailPoint enable(BsonDocument configureFailPointDoc) {
-            var result = new FailPoint(configureFailPointDoc);
-            mongoClient.getDatabase("admin").runCommand(configureFailPointDoc);
-            return result;
-        }
-
-        @Override
-        public void close() {
-            mongoClient
-                    .getDatabase("admin")
-                    .runCommand(new BsonDocument()
-                            .append("configureFailPoint", failPointDocument.getString("configureFailPoint"))
-                            .append("mode", new BsonString("off")));
+        var standardServiceRegistry = new StandardServiceRegistryBuilder()
+                .applySetting(
+                        JAKARTA_JDBC_URL, "mongodb://localhost:1/mongo-hibernate-test?serverSelectionTimeoutMS=100")
+                .build();
+        try {
+            assertThatThrownBy(() -> new MetadataSources(standardServiceRegistry).buildMetadata())
+                    .hasRootCause(
+                            new RuntimeException(
+                                    "Could not instantiate [com.mongodb.hibernate.dialect.MongoDialect], see the earlier exceptions to find out why"));
+        } finally {
+            StandardServiceRegistryBuilder.destroy(standardServiceRegistry);
         }
     }
 }
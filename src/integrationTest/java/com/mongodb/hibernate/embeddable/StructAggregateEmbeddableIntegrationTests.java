@@ -234,6 +234,57 @@ public class StructAggregateEmbeddableIntegrationTests implements SessionFactory
         assertEq(updatedItem, loadedItem);
     }
 
+    @Test
+    void testUpdateNestedValuePartially() {
+        var item = new ItemWithNestedValues(
+                new EmbeddableIntegrationTests.Single(1),
+                null,
+                new PairWithParent(
+                        3,
+                        new Plural(
+                                'c', 1, 2, 3, true, null, null, null, null, null, "$notAFieldPath", null, null)));
+        item.nested2.parent = item;
+        sessionFactoryScope.inTransaction(session -> session.persist(item));
+        var updatedItem = sessionFactoryScope.fromTransaction(session -> {
+            var result = session.find(ItemWithNestedValues.class, item.flattenedId);
+            result.nested1 = new Single(2);
+            result.nested2.a = -result.nested2.a;
+            result.nested2.nested = new Plural(
+                    'c', 1, 2, 3, true, null, null, null, null, null, "$stillNotAFieldPath", null, null);
+            return result;
+        });
+        assertCollectionContainsExactly(
+                """
+                {
+                    _id: 1,
+                    nested1: {
+                        a: 2
+                    },
+                    nested2: {
+                        a: -3,
+                        nested: {
+                            primitiveChar: "c",
+                            primitiveInt: 1,
+                            primitiveLong: {$numberLong: "2"},
+                            primitiveDouble: 3.0,
+                            primitiveBoolean: true,
+                            boxedChar: null,
+                            boxedInt: null,
+                            boxedLong: null,
+                            boxedDouble: null,
+                            boxedBoolean: null,
+                            string: "$stillNotAFieldPath",
+                            bigDecimal: null,
+                            objectId: null
+                        }
+                    }
+                }
+                """);
+        var loadedItem = sessionFactoryScope.fromTransaction(
+                session -> session.find(ItemWithNestedValues.class, updatedItem.flattenedId));
+        assertEq(updatedItem, loadedItem);
+    }
+
     @Test
     void testNestedValueHavingArraysAndCollections() {
         var item = new ItemWithNestedValueHavingArraysAndCollections(
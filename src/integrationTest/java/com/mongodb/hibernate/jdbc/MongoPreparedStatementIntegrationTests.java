@@ -36,6 +36,7 @@ import com.mongodb.hibernate.junit.MongoExtension;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Function;
@@ -400,6 +401,56 @@ class MongoPreparedStatementIntegrationTests {
         }
     }
 
+    @Nested
+    class ExecuteBatchTests {
+
+        @Test
+        void testInsertUpdateDelete() {
+            doWorkAwareOfAutoCommit(connection -> {
+                try (var pstmt = connection.prepareStatement(
+                        """
+                        {
+                            insert: "books",
+                            documents: [ { _id: { $undefined: true }, title: { $undefined: true }, outOfStock: false } ]
+                        }""")) {
+                    for (var i = 1; i <= 3; i++) {
+                        pstmt.setInt(1, i);
+                        pstmt.setString(2, "Title " + i);
+                        pstmt.addBatch();
+                    }
+                    assertArrayEquals(new int[] {1, 1, 1}, pstmt.executeBatch());
+                }
+                try (var pstmt = connection.prepareStatement(
+                        """
+                        {
+                            update: "books",
+                            updates: [ { q: { _id: { $eq: { $undefined: true } } }, u: { $set: { outOfStock: true } } } ]
+                        }""")) {
+                    pstmt.setInt(1, 1);
+                    pstmt.addBatch();
+                    assertArrayEquals(new int[] {1}, pstmt.executeBatch());
+                }
+                try (var pstmt = connection.prepareStatement(
+                        """
+                        {
+                            delete: "books",
+                            deletes: [ { q: { _id: { $eq: { $undefined: true } } }, limit: 0 } ]
+                        }""")) {
+                    pstmt.setInt(1, 3);
+                    pstmt.addBatch();
+                    pstmt.setInt(1, 4);
+                    pstmt.addBatch();
+                    assertArrayEquals(
+                            new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}, pstmt.executeBatch());
+                }
+            });
+            assertThat(mongoCollection.find().sort(Sorts.ascending(ID_FIELD_NAME)))
+                    .containsExactly(
+                            BsonDocument.parse("{_id: 1, title: 'Title 1', outOfStock: true}"),
+                            BsonDocument.parse("{_id: 2, title: 'Title 2', outOfStock: false}"));
+        }
+    }
+
     private void doWorkAwareOfAutoCommit(Work work) {
         session.doWork(connection -> doAwareOfAutoCommit(connection, () -> work.execute(connection)));
     }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2024-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import static com.mongodb.hibernate.jdbc.MongoStatementIntegrationTests.doWithSpecifiedAutoCommit;
+import static com.mongodb.hibernate.jdbc.MongoStatementIntegrationTests.insertTestData;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mongodb.MongoCommandException;
+import com.mongodb.MongoCursorNotFoundException;
+import com.mongodb.MongoExecutionTimeoutException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.hibernate.junit.InjectMongoClient;
+import com.mongodb.hibernate.junit.MongoExtension;
+import com.mongodb.hibernate.query.Book;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/** Uses fail points, which require the {@code enableTestCommands} server parameter. */
+@ExtendWith(MongoExtension.class)
+class MongoStatementCancellationIntegrationTests {
+
+    private static final String QUERY_MQL =
+            """
+            {
+                aggregate: "books",
+                pipeline: [
+                    { $sort: { _id: 1 } },
+                    { $project: { _id: 1, title: 1 } }
+                ]
+            }""";
+
+    @InjectMongoClient
+    private static MongoClient mongoClient;
+
+    @AutoClose
+    private static SessionFactory sessionFactory;
+
+    @AutoClose
+    private Session session;
+
+    @BeforeAll
+    static void beforeAll() {
+        sessionFactory = new Configuration().addAnnotatedClass(Book.class).buildSessionFactory();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        session = sessionFactory.openSession();
+        insertTestData(
+                session,
+                """
+                {
+                    insert: "books",
+                    documents: [
+                        { _id: 1, title: "War and Peace" },
+                        { _id: 2, title: "Anna Karenina" },
+                        { _id: 3, title: "Crime and Punishment" }
+                    ]
+                }""");
+    }
+
+    /** Outside a transaction, commands are executed in implicit sessions, which {@code cancel} cannot identify. */
+    @Test
+    @SuppressWarnings("try")
+    void testCancelKillsCommandExecutingInTransaction() {
+        var executor = Executors.newSingleThreadExecutor();
+        try (var failPoint = FailPoint.enable(
+                """
+                {
+                    configureFailPoint: "failCommand",
+                    mode: { times: 1 },
+                    data: { failCommands: ["update"], blockConnection: true, blockTimeMS: 10000 }
+                }""")) {
+            session.doWork(connection -> doWithSpecifiedAutoCommit(false, connection, () -> {
+                try (var statement = connection.createStatement()) {
+                    var execution = executor.submit(() -> statement.executeUpdate(
+                            "{update: 'books', updates: [{q: {}, u: {$set: {outOfStock: true}}, multi: true}]}"));
+                    awaitOperationInProgress("command.update");
+                    statement.cancel();
+                    assertThatThrownBy(() -> execution.get(30, SECONDS))
+                            .isInstanceOf(ExecutionException.class)
+                            .hasCauseInstanceOf(SQLException.class)
+                            .hasRootCauseInstanceOf(MongoCommandException.class);
+                } finally {
+                    connection.rollback();
+                }
+            }));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testCancelKillsIdleCursor() {
+        session.doWork(connection -> doWithSpecifiedAutoCommit(true, connection, () -> {
+            try (var statement = connection.createStatement()) {
+                statement.setFetchSize(1);
+                try (var resultSet = statement.executeQuery(QUERY_MQL)) {
+                    assertThat(resultSet.next()).isTrue();
+                    statement.cancel();
+                    assertThatThrownBy(resultSet::next)
+                            .isInstanceOf(SQLException.class)
+                            .hasCauseInstanceOf(MongoCursorNotFoundException.class);
+                }
+            }
+        }));
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    void testQueryTimeoutExpires() {
+        try (var failPoint = FailPoint.enable(
+                """
+                {
+                    configureFailPoint: "maxTimeAlwaysTimeOut",
+                    mode: "alwaysOn"
+                }""")) {
+            session.doWork(connection -> doWithSpecifiedAutoCommit(true, connection, () -> {
+                try (var statement = connection.createStatement()) {
+                    statement.setQueryTimeout(10);
+                    assertThatThrownBy(() -> statement.executeQuery(QUERY_MQL))
+                            .isInstanceOf(SQLException.class)
+                            .hasRootCauseInstanceOf(MongoExecutionTimeoutException.class);
+                }
+            }));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    void testQueryTimeoutHintExpires() {
+        try (var failPoint = FailPoint.enable(
+                """
+                {
+                    configureFailPoint: "maxTimeAlwaysTimeOut",
+                    mode: "alwaysOn"
+                }""")) {
+            assertThatThrownBy(() -> session.createSelectionQuery("from Book", Book.class)
+                            .setTimeout(10)
+                            .getResultList())
+                    .hasRootCauseInstanceOf(MongoExecutionTimeoutException.class);
+        }
+    }
+
+    private static void awaitOperationInProgress(String commandField) throws SQLException {
+        var pipeline = List.of(
+                BsonDocument.parse("{$currentOp: {}}"),
+                new BsonDocument("$match", new BsonDocument(commandField, new BsonString("books"))));
+        for (var attempt = 0; attempt < 100; attempt++) {
+            if (mongoClient
+                            .getDatabase("admin")
+                            .aggregate(pipeline, BsonDocument.class)
+                            .first()
+                    != null) {
+                return;
+            }
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(e);
+            }
+        }
+        throw new SQLException("The operation did not start");
+    }
+
+    private static final class FailPoint implements AutoCloseable {
+        private final String name;
+
+        private FailPoint(String name) {
+            this.name = name;
+        }
+
+        static FailPoint enable(String configureFailPointMql) {
+            var configureFailPoint = BsonDocument.parse(configureFailPointMql);
+            mongoClient.getDatabase("admin").runCommand(configureFailPoint);
+            return new FailPoint(configureFailPoint.getString("configureFailPoint").getValue());
+        }
+
+        @Override
+        public void close() {
+            mongoClient
+                    .getDatabase("admin")
+                    .runCommand(new BsonDocument("configureFailPoint", new BsonString(name))
+                            .append("mode", new BsonString("off")));
+        }
+    }
+}
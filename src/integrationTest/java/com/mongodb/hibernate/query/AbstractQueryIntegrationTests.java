@@ -243,6 +243,11 @@ public abstract class AbstractQueryIntegrationTests implements SessionFactorySco
             delegate = new MongoDialect(info);
         }
 
+        @Override
+        public boolean supportsCaseInsensitiveLike() {
+            return delegate.supportsCaseInsensitiveLike();
+        }
+
         @Override
         public SqlAstTranslatorFactory getSqlAstTranslatorFactory() {
             return new SqlAstTranslatorFactory() {
@@ -17,6 +17,7 @@
 package com.mongodb.hibernate.query.mutation;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.junit.InjectMongoCollection;
 import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
 import com.mongodb.hibernate.query.Book;
@@ -179,6 +180,91 @@ class InsertionIntegrationTests extends AbstractQueryIntegrationTests {
                 Set.of(Book.COLLECTION_NAME));
     }
 
+    @Test
+    void testInsertOnConflictDoUpdateInsertsDocument() {
+        assertMutationQuery(
+                """
+                insert into Book (id, title, publishYear) values (1, 'War & Peace', 1869)
+                on conflict(id) do update set title = excluded.title
+                """,
+                null,
+                1,
+                """
+                {
+                  "update": "books",
+                  "updates": [
+                    {
+                      "q": {"_id": {"$eq": 1}},
+                      "u": {"$set": {"title": "War & Peace"}, "$setOnInsert": {"publishYear": 1869}},
+                      "upsert": true
+                    }
+                  ]
+                }
+                """,
+                mongoCollection,
+                List.of(
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 1,
+                                  "title": "War & Peace",
+                                  "publishYear": 1869
+                                }
+                                """)),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testInsertOnConflictDoUpdateUpdatesDocument() {
+        mongoCollection.insertOne(BsonDocument.parse(
+                """
+                {
+                  "_id": 1,
+                  "title": "War and Peace",
+                  "publishYear": 1867
+                }
+                """));
+        assertMutationQuery(
+                """
+                insert into Book (id, title, publishYear) values (1, 'War & Peace', 1869)
+                on conflict(id) do update set title = excluded.title
+                """,
+                null,
+                1,
+                """
+                {
+                  "update": "books",
+                  "updates": [
+                    {
+                      "q": {"_id": {"$eq": 1}},
+                      "u": {"$set": {"title": "War & Peace"}, "$setOnInsert": {"publishYear": 1869}},
+                      "upsert": true
+                    }
+                  ]
+                }
+                """,
+                mongoCollection,
+                List.of(
+                        BsonDocument.parse(
+                                """
+                                {
+                                  "_id": 1,
+                                  "title": "War & Peace",
+                                  "publishYear": 1867
+                                }
+                                """)),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testInsertOnConflictDoNothingNotSupported() {
+        assertMutationQueryFailure(
+                "insert into Book (id, title) values (1, 'War & Peace') on conflict do nothing",
+                null,
+                FeatureNotSupportedException.class,
+                "TODO-HIBERNATE-94 https://jira.mongodb.org/browse/HIBERNATE-94");
+    }
+
     @Test
     @Disabled("TODO-HIBERNATE-95 https://jira.mongodb.org/browse/HIBERNATE-95 enable this test")
     void testConstraintViolationExceptionIsThrown() {
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import com.mongodb.hibernate.query.Book;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(annotatedClasses = Book.class)
+class GroupingSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final List<Book> testingBooks = List.of(
+            new Book(1, "War and Peace", 1869, true),
+            new Book(2, "Crime and Punishment", 1866, false),
+            new Book(3, "Anna Karenina", 1877, false),
+            new Book(4, "The Brothers Karamazov", 1880, false),
+            new Book(5, "War and Peace", 2025, false));
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> testingBooks.forEach(session::persist));
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testGroupBySingleField() {
+        assertSelectionQuery(
+                "select b.title, count(*), min(b.publishYear), max(b.publishYear) from Book b"
+                        + " group by b.title order by b.title",
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$group": {
+                        "_id": "$title",
+                        "title": {"$first": "$title"},
+                        "count(*)": {"$sum": {"$numberLong": "1"}},
+                        "min(publishYear)": {"$min": "$publishYear"},
+                        "max(publishYear)": {"$max": "$publishYear"}
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "title": 1
+                      }
+                    },
+                    {
+                      "$project": {
+                        "title": true,
+                        "count(*)": true,
+                        "min(publishYear)": true,
+                        "max(publishYear)": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(
+                        new Object[] {"Anna Karenina", 1L, 1877, 1877},
+                        new Object[] {"Crime and Punishment", 1L, 1866, 1866},
+                        new Object[] {"The Brothers Karamazov", 1L, 1880, 1880},
+                        new Object[] {"War and Peace", 2L, 1869, 2025}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testGroupByMultipleFieldsWithHaving() {
+        assertSelectionQuery(
+                "select b.outOfStock, b.title, sum(b.publishYear) from Book b where b.id > 1"
+                        + " group by b.outOfStock, b.title having sum(b.publishYear) > :minSum"
+                        + " order by sum(b.publishYear)",
+                Object[].class,
+                query -> query.setParameter("minSum", 1870L),
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "_id": {"$gt": 1}
+                      }
+                    },
+                    {
+                      "$group": {
+                        "_id": {"outOfStock": "$outOfStock", "title": "$title"},
+                        "outOfStock": {"$first": "$outOfStock"},
+                        "title": {"$first": "$title"},
+                        "sum(publishYear)": {"$sum": {"$toLong": "$publishYear"}},
+                        "count(sum(publishYear))": {
+                          "$sum": {
+                            "$cond": [
+                              {"$gt": [{"$toLong": "$publishYear"}, null]},
+                              {"$numberLong": "1"},
+                              {"$numberLong": "0"}
+                            ]
+                          }
+                        }
+                      }
+                    },
+                    {
+                      "$set": {
+                        "sum(publishYear)": {
+                          "$cond": ["$count(sum(publishYear))", "$sum(publishYear)", {"$literal": null}]
+                        }
+                      }
+                    },
+                    {
+                      "$match": {
+                        "sum(publishYear)": {"$gt": {"$numberLong": "1870"}}
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "sum(publishYear)": 1
+                      }
+                    },
+                    {
+                      "$project": {
+                        "outOfStock": true,
+                        "title": true,
+                        "sum(publishYear)": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(
+                        new Object[] {false, "Anna Karenina", 1877L},
+                        new Object[] {false, "The Brothers Karamazov", 1880L},
+                        new Object[] {false, "War and Peace", 2025L}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Test
+    void testSumOfGroupWithoutNonNullValues() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(new Book(6, "Dead Souls", null, true));
+            session.persist(new Book(7, "Dead Souls", null, false));
+            session.persist(new Book(8, "The Idiot", 1869, false));
+        });
+        getTestCommandListener().clear();
+        assertSelectionQuery(
+                "select b.title, sum(b.publishYear) from Book b where b.id > 5 group by b.title order by b.title",
+                Object[].class,
+                """
+                {
+                  "aggregate": "books",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "_id": {"$gt": 5}
+                      }
+                    },
+                    {
+                      "$group": {
+                        "_id": "$title",
+                        "title": {"$first": "$title"},
+                        "sum(publishYear)": {"$sum": {"$toLong": "$publishYear"}},
+                        "count(sum(publishYear))": {
+                          "$sum": {
+                            "$cond": [
+                              {"$gt": [{"$toLong": "$publishYear"}, null]},
+                              {"$numberLong": "1"},
+                              {"$numberLong": "0"}
+                            ]
+                          }
+                        }
+                      }
+                    },
+                    {
+                      "$set": {
+                        "sum(publishYear)": {
+                          "$cond": ["$count(sum(publishYear))", "$sum(publishYear)", {"$literal": null}]
+                        }
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "title": 1
+                      }
+                    },
+                    {
+                      "$project": {
+                        "title": true,
+                        "sum(publishYear)": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Object[] {"Dead Souls", null}, new Object[] {"The Idiot", 1869L}),
+                Set.of(Book.COLLECTION_NAME));
+    }
+
+    @Nested
+    class Unsupported {
+
+        @Test
+        void testAggregateFunctionWithoutGroupBy() {
+            assertSelectQueryFailure(
+                    "select count(*) from Book",
+                    Long.class,
+                    FeatureNotSupportedException.class,
+                    "Aggregate functions are supported only together with GROUP BY");
+        }
+
+        @Test
+        void testSelectingFieldNotInGroupBy() {
+            assertSelectQueryFailure(
+                    "select b.title, b.publishYear from Book b group by b.title",
+                    Object[].class,
+                    FeatureNotSupportedException.class,
+                    "Selecting the [publishYear] field, which is not in GROUP BY, is not supported");
+        }
+
+        @Test
+        void testDistinctInAggregateFunction() {
+            assertSelectQueryFailure(
+                    "select b.title, count(distinct b.publishYear) from Book b group by b.title",
+                    Object[].class,
+                    FeatureNotSupportedException.class,
+                    "DISTINCT in aggregate functions is not supported");
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.query.select;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.query.AbstractQueryIntegrationTests;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.testing.orm.junit.DomainModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DomainModel(
+        annotatedClasses = {JoinSelectQueryIntegrationTests.Author.class, JoinSelectQueryIntegrationTests.Novel.class})
+class JoinSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
+
+    private static final Author tolstoy = new Author(1, "Leo Tolstoy");
+    private static final Author dostoevsky = new Author(2, "Fyodor Dostoevsky");
+
+    @BeforeEach
+    void beforeEach() {
+        getSessionFactoryScope().inTransaction(session -> {
+            session.persist(tolstoy);
+            session.persist(dostoevsky);
+            session.persist(new Novel(1, "War and Peace", tolstoy));
+            session.persist(new Novel(2, "Crime and Punishment", dostoevsky));
+            session.persist(new Novel(3, "Anna Karenina", tolstoy));
+            session.persist(new Novel(4, "Anonymous", null));
+        });
+        getTestCommandListener().clear();
+    }
+
+    @Test
+    void testInnerJoin() {
+        assertSelectionQuery(
+                "select n.title, a.name from Novel n join n.author a where a.name = :name order by n.title",
+                Object[].class,
+                query -> query.setParameter("name", tolstoy.name),
+                """
+                {
+                  "aggregate": "novels",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "authors",
+                        "localField": "authorId",
+                        "foreignField": "_id",
+                        "as": "a1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$a1_0",
+                        "preserveNullAndEmptyArrays": false
+                      }
+                    },
+                    {
+                      "$match": {
+                        "a1_0.name": {"$eq": "Leo Tolstoy"}
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "title": 1
+                      }
+                    },
+                    {
+                      "$project": {
+                        "title": true,
+                        "a1_0.name": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(new Object[] {"Anna Karenina", tolstoy.name}, new Object[] {"War and Peace", tolstoy.name}),
+                Set.of(Novel.COLLECTION_NAME, Author.COLLECTION_NAME));
+    }
+
+    @Test
+    void testLeftJoin() {
+        assertSelectionQuery(
+                "select n.title, a.name from Novel n left join n.author a order by n.title",
+                Object[].class,
+                """
+                {
+                  "aggregate": "novels",
+                  "pipeline": [
+                    {
+                      "$sort": {
+                        "title": 1
+                      }
+                    },
+                    {
+                      "$lookup": {
+                        "from": "authors",
+                        "localField": "authorId",
+                        "foreignField": "_id",
+                        "as": "a1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$a1_0",
+                        "preserveNullAndEmptyArrays": true
+                      }
+                    },
+                    {
+                      "$project": {
+                        "title": true,
+                        "a1_0.name": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(
+                        new Object[] {"Anna Karenina", tolstoy.name},
+                        new Object[] {"Anonymous", null},
+                        new Object[] {"Crime and Punishment", dostoevsky.name},
+                        new Object[] {"War and Peace", tolstoy.name}),
+                Set.of(Novel.COLLECTION_NAME, Author.COLLECTION_NAME));
+    }
+
+    @Test
+    void testLeftJoinPaged() {
+        assertSelectionQuery(
+                "select n.title, a.name from Novel n left join n.author a where n.id > :id order by n.title",
+                Object[].class,
+                query -> query.setParameter("id", 1).setFirstResult(1).setMaxResults(2),
+                """
+                {
+                  "aggregate": "novels",
+                  "pipeline": [
+                    {
+                      "$match": {
+                        "_id": {"$gt": 1}
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "title": 1
+                      }
+                    },
+                    {
+                      "$skip": 1
+                    },
+                    {
+                      "$limit": 2
+                    },
+                    {
+                      "$lookup": {
+                        "from": "authors",
+                        "localField": "authorId",
+                        "foreignField": "_id",
+                        "as": "a1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$a1_0",
+                        "preserveNullAndEmptyArrays": true
+                      }
+                    },
+                    {
+                      "$project": {
+                        "title": true,
+                        "a1_0.name": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(
+                        new Object[] {"Anonymous", null},
+                        new Object[] {"Crime and Punishment", dostoevsky.name}),
+                Set.of(Novel.COLLECTION_NAME, Author.COLLECTION_NAME));
+    }
+
+    @Test
+    void testLeftJoinPagedSortedByFieldOfJoinedTable() {
+        assertSelectionQuery(
+                "select n.title, a.name from Novel n left join n.author a order by a.name, n.title",
+                Object[].class,
+                query -> query.setMaxResults(2),
+                """
+                {
+                  "aggregate": "novels",
+                  "pipeline": [
+                    {
+                      "$lookup": {
+                        "from": "authors",
+                        "localField": "authorId",
+                        "foreignField": "_id",
+                        "as": "a1_0"
+                      }
+                    },
+                    {
+                      "$unwind": {
+                        "path": "$a1_0",
+                        "preserveNullAndEmptyArrays": true
+                      }
+                    },
+                    {
+                      "$sort": {
+                        "a1_0.name": 1,
+                        "title": 1
+                      }
+                    },
+                    {
+                      "$limit": 2
+                    },
+                    {
+                      "$project": {
+                        "title": true,
+                        "a1_0.name": true
+                      }
+                    }
+                  ]
+                }""",
+                List.of(
+                        new Object[] {"Anonymous", null},
+                        new Object[] {"Crime and Punishment", dostoevsky.name}),
+                Set.of(Novel.COLLECTION_NAME, Author.COLLECTION_NAME));
+    }
+
+    @Nested
+    class Unsupported {
+
+        @Test
+        void testGroupingByFieldOfJoinedTable() {
+            assertSelectQueryFailure(
+                    "select a.name, count(*) from Novel n join n.author a group by a.name",
+                    Object[].class,
+                    FeatureNotSupportedException.class,
+                    "Grouping by the fields of joined tables is not supported");
+        }
+
+        @Test
+        void testJoinOnNonEqualityPredicate() {
+            assertSelectQueryFailure(
+                    "select n.title from Novel n join Author a on n.title > a.name",
+                    String.class,
+                    FeatureNotSupportedException.class,
+                    "Only joins on the equality of a field of the joining table and a field of the joined table"
+                            + " are supported");
+        }
+    }
+
+    @Entity(name = "Author")
+    @Table(name = Author.COLLECTION_NAME)
+    static class Author {
+        static final String COLLECTION_NAME = "authors";
+
+        @Id
+        int id;
+
+        String name;
+
+        Author() {}
+
+        Author(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    @Entity(name = "Novel")
+    @Table(name = Novel.COLLECTION_NAME)
+    static class Novel {
+        static final String COLLECTION_NAME = "novels";
+
+        @Id
+        int id;
+
+        String title;
+
+        @ManyToOne
+        @JoinColumn(name = "authorId")
+        Author author;
+
+        Novel() {}
+
+        Novel(int id, String title, Author author) {
+            this.id = id;
+            this.title = title;
+            this.author = author;
+        }
+    }
+}
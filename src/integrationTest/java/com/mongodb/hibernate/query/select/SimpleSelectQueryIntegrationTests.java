@@ -336,6 +336,167 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Set.of(Contact.COLLECTION_NAME));
         }
 
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void testIn(boolean negated) {
+            assertSelectionQuery(
+                    "from Contact where age " + (negated ? "not in" : "in") + " (18, 25)",
+                    Contact.class,
+                    """
+                    {
+                      "aggregate": "contacts",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "age": {
+                              "%s": [18, 25]
+                            }
+                          }
+                        },
+                        {
+                          "$project": {
+                            "_id": true,
+                            "age": true,
+                            "country": true,
+                            "name": true
+                          }
+                        }
+                      ]
+                    }"""
+                            .formatted(negated ? "$nin" : "$in"),
+                    negated ? getTestingContacts(2, 3, 4) : getTestingContacts(1, 5),
+                    Set.of(Contact.COLLECTION_NAME));
+        }
+
+        @Test
+        void testLikePrefix() {
+            assertSelectionQuery(
+                    "from Contact where name like 'M%'",
+                    Contact.class,
+                    """
+                    {
+                      "aggregate": "contacts",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "name": {
+                              "$regex": "^M",
+                              "$options": "s"
+                            }
+                          }
+                        },
+                        {
+                          "$project": {
+                            "_id": true,
+                            "age": true,
+                            "country": true,
+                            "name": true
+                          }
+                        }
+                      ]
+                    }""",
+                    getTestingContacts(2),
+                    Set.of(Contact.COLLECTION_NAME));
+        }
+
+        @Test
+        void testLikeParameter() {
+            assertSelectionQuery(
+                    "from Contact where name like :pattern",
+                    Contact.class,
+                    q -> q.setParameter("pattern", "%y"),
+                    """
+                    {
+                      "aggregate": "contacts",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "name": {
+                              "$regex": "y\\\\z",
+                              "$options": "s"
+                            }
+                          }
+                        },
+                        {
+                          "$project": {
+                            "_id": true,
+                            "age": true,
+                            "country": true,
+                            "name": true
+                          }
+                        }
+                      ]
+                    }""",
+                    getTestingContacts(2, 4),
+                    Set.of(Contact.COLLECTION_NAME));
+        }
+
+        @Test
+        void testIlike() {
+            assertSelectionQuery(
+                    "from Contact where name ilike 'd_l%'",
+                    Contact.class,
+                    """
+                    {
+                      "aggregate": "contacts",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "name": {
+                              "$regex": "^d.l",
+                              "$options": "si"
+                            }
+                          }
+                        },
+                        {
+                          "$project": {
+                            "_id": true,
+                            "age": true,
+                            "country": true,
+                            "name": true
+                          }
+                        }
+                      ]
+                    }""",
+                    getTestingContacts(3),
+                    Set.of(Contact.COLLECTION_NAME));
+        }
+
+        @Test
+        void testNotLike() {
+            assertSelectionQuery(
+                    "from Contact where name not like '%o%'",
+                    Contact.class,
+                    """
+                    {
+                      "aggregate": "contacts",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "$nor": [
+                              {
+                                "name": {
+                                  "$regex": "o",
+                                  "$options": "s"
+                                }
+                              }
+                            ]
+                          }
+                        },
+                        {
+                          "$project": {
+                            "_id": true,
+                            "age": true,
+                            "country": true,
+                            "name": true
+                          }
+                        }
+                      ]
+                    }""",
+                    getTestingContacts(2, 3, 4),
+                    Set.of(Contact.COLLECTION_NAME));
+        }
+
         @Test
         void testSingleNegation() {
             assertSelectionQuery(
@@ -630,6 +791,37 @@ class SimpleSelectQueryIntegrationTests extends AbstractQueryIntegrationTests {
                     Set.of(Contact.COLLECTION_NAME));
         }
 
+        @Test
+        void testFetchSize() {
+            assertSelectionQuery(
+                    "select name from Contact where country = :country",
+                    String.class,
+                    q -> q.setParameter("country", Country.USA.name()).setFetchSize(3),
+                    """
+                    {
+                      "aggregate": "contacts",
+                      "pipeline": [
+                        {
+                          "$match": {
+                            "country": {
+                              "$eq": "USA"
+                            }
+                          }
+                        },
+                        {
+                          "$project": {
+                            "name": true
+                          }
+                        }
+                      ],
+                      "cursor": {
+                        "batchSize": 3
+                      }
+                    }""",
+                    List.of("Bob", "John"),
+                    Set.of(Contact.COLLECTION_NAME));
+        }
+
         @Test
         void testProjectUsingWrongAlias() {
             assertSelectQueryFailure(
@@ -18,8 +18,10 @@ package com.mongodb.hibernate.cfg;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
 import com.mongodb.hibernate.internal.Sealed;
 import com.mongodb.hibernate.service.spi.MongoConfigurationContributor;
+import java.time.Duration;
 import java.util.Map;
 import java.util.function.Consumer;
 import org.hibernate.cfg.AvailableSettings;
@@ -69,6 +71,34 @@ import org.hibernate.service.spi.Configurable;
  *             if {@linkplain ConnectionString#getDatabase() configured};
  *             otherwise a value must be configured via {@link MongoConfigurator#databaseName(String)}.</td>
  *         </tr>
+ *         <tr>
+ *             <td>{@link #cursorPrefetchBatches(int)}</td>
+ *             <td>✓</td>
+ *             <td>None</td>
+ *             <td>None</td>
+ *             <td>{@code 0}, that is, prefetching is disabled.</td>
+ *         </tr>
+ *         <tr>
+ *             <td>{@link #transactionRetries(int, Duration)}</td>
+ *             <td>✓</td>
+ *             <td>None</td>
+ *             <td>None</td>
+ *             <td>{@code 0} retries, that is, retrying is disabled.</td>
+ *         </tr>
+ *         <tr>
+ *             <td>{@link #transactionStartOnFirstWrite(boolean)}</td>
+ *             <td>✓</td>
+ *             <td>None</td>
+ *             <td>None</td>
+ *             <td>{@code false}</td>
+ *         </tr>
+ *         <tr>
+ *             <td>{@link #readOnlyReadPreference(ReadPreference)}</td>
+ *             <td>✓</td>
+ *             <td>None</td>
+ *             <td>None</td>
+ *             <td>{@link ReadPreference#primary()}</td>
+ *         </tr>
  *     </tbody>
  * </table>
  *
@@ -96,4 +126,65 @@ public interface MongoConfigurator {
      * @return {@code this}.
      */
     MongoConfigurator databaseName(String databaseName);
+
+    /**
+     * Sets the maximum number of cursor batches of a {@link java.sql.ResultSet} to fetch in the background, ahead of
+     * the batch being consumed. Fetching in the background overlaps the network round trips with processing the rows,
+     * at the cost of holding up to this number of additional batches in memory, and of a thread per open
+     * {@link java.sql.ResultSet}. The threads are shared by all {@link java.sql.Connection}s, and there are no more of
+     * them than the {@linkplain com.mongodb.connection.ConnectionPoolSettings#getMaxSize() maximum size} of the
+     * connection pool. A {@link java.sql.ResultSet} opened when all of them are busy is not fetched in the background.
+     *
+     * @param cursorPrefetchBatches The maximum number of batches to prefetch, {@code 0} disables prefetching.
+     * @return {@code this}.
+     */
+    MongoConfigurator cursorPrefetchBatches(int cursorPrefetchBatches);
+
+    /**
+     * Configures retrying transactions that fail due to transient errors:
+     *
+     * <ul>
+     *     <li>{@linkplain com.mongodb.client.ClientSession#commitTransaction() Committing} a transaction is retried if
+     *     the commit result is {@linkplain com.mongodb.MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL unknown}.
+     *     <li>Units of work are retried if they are executed via
+     *     {@link com.mongodb.hibernate.service.MongoTransactionRetrier}.
+     * </ul>
+     *
+     * The delay before a retry is random, up to a limit that grows exponentially with each retry until it reaches
+     * {@code maxBackoff}.
+     *
+     * @param maxRetries The maximum number of retries of a commit, or of a unit of work, {@code 0} disables retrying.
+     * @param maxBackoff The maximum delay before a retry.
+     * @return {@code this}.
+     */
+    MongoConfigurator transactionRetries(int maxRetries, Duration maxBackoff);
+
+    /**
+     * Sets whether a {@linkplain com.mongodb.client.ClientSession#startTransaction() transaction} is started by the
+     * first {@link java.sql.Statement} that may write, instead of the first {@link java.sql.Statement}, when
+     * {@linkplain java.sql.Connection#getAutoCommit() auto-commit} is disabled.
+     *
+     * <p>The reads executed before the transaction is started are not isolated by it, but are still executed in a
+     * {@linkplain com.mongodb.ClientSessionOptions#isCausallyConsistent() causally consistent} session. Units of work
+     * that do not write start no transaction, and neither commit, nor abort it.
+     *
+     * @param transactionStartOnFirstWrite Whether to start a transaction on the first write.
+     * @return {@code this}.
+     */
+    MongoConfigurator transactionStartOnFirstWrite(boolean transactionStartOnFirstWrite);
+
+    /**
+     * Sets the {@link ReadPreference}, including its {@linkplain com.mongodb.TaggableReadPreference#getTagSetList() tag
+     * sets} and {@linkplain com.mongodb.TaggableReadPreference#getMaxStaleness(java.util.concurrent.TimeUnit) maximum
+     * staleness}, of the queries executed via a {@linkplain java.sql.Connection#setReadOnly(boolean) read-only}
+     * {@link java.sql.Connection}.
+     *
+     * <p>Queries executed via a read-only {@link java.sql.Connection} start no transaction, as MongoDB transactions
+     * read only from the primary. If a transaction was started nonetheless, for example, by a write, the queries in it
+     * read from the primary regardless of this setting.
+     *
+     * @param readPreference The {@link ReadPreference} of read-only queries.
+     * @return {@code this}.
+     */
+    MongoConfigurator readOnlyReadPreference(ReadPreference readPreference);
 }
@@ -18,6 +18,7 @@ package com.mongodb.hibernate.dialect;
 
 import static com.mongodb.hibernate.internal.MongoConstants.MONGO_DBMS_NAME;
 import static java.lang.String.format;
+import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 
 import com.mongodb.hibernate.internal.translate.MongoTranslatorFactory;
 import com.mongodb.hibernate.internal.type.MongoArrayJdbcType;
@@ -31,8 +32,13 @@ import org.hibernate.dialect.DatabaseVersion;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.dialect.aggregate.AggregateSupport;
 import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.mutation.EntityMutationTarget;
+import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.service.ServiceRegistry;
 import org.hibernate.sql.ast.SqlAstTranslatorFactory;
+import org.hibernate.sql.model.MutationOperation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.type.descriptor.sql.internal.DdlTypeImpl;
 import org.jspecify.annotations.Nullable;
 
@@ -50,6 +56,10 @@ public final class MongoDialect extends Dialect {
 
     public MongoDialect(DialectResolutionInfo info) {
         super(info);
+        // A bulk write reports only the total number of the documents its writes matched, which does not tell which
+        // versioned entity is stale if the total falls short, therefore versioned data is not batched unless the
+        // application explicitly allows it
+        getDefaultProperties().setProperty(BATCH_VERSIONED_DATA, Boolean.FALSE.toString());
     }
 
     /**
@@ -128,4 +138,46 @@ public final class MongoDialect extends Dialect {
     public boolean supportsStandardArrays() {
         return true;
     }
+
+    /**
+     * An entity insert with values generated by the DBMS, for example, for
+     * {@link org.hibernate.annotations.CreationTimestamp} with {@link org.hibernate.annotations.SourceType#DB}, is
+     * translated to a {@code findAndModify} command returning the inserted document, so that Hibernate ORM does not
+     * read the values with another command.
+     */
+    @Override
+    public boolean supportsInsertReturning() {
+        return true;
+    }
+
+    /** Like {@link #supportsInsertReturning()}, but for an entity update. */
+    @Override
+    public boolean supportsUpdateReturning() {
+        return true;
+    }
+
+    /** {@code ilike} is translated to a case-insensitive regular expression, with no need to apply {@code lower}. */
+    @Override
+    public boolean supportsCaseInsensitiveLike() {
+        return true;
+    }
+
+    /**
+     * Translates {@code optionalTableUpdate}, for example, of {@link org.hibernate.StatelessSession#upsert(Object)}, to
+     * a single {@code update} command with {@code upsert: true}, instead of an update followed by an insert if no
+     * document was updated. Optional secondary tables keep the default operation, which deletes the row if all its
+     * values are {@code null}.
+     */
+    @Override
+    public MutationOperation createOptionalTableUpdateOperation(
+            EntityMutationTarget mutationTarget,
+            OptionalTableUpdate optionalTableUpdate,
+            SessionFactoryImplementor factory) {
+        if (optionalTableUpdate.getMutatingTable().getTableMapping().isOptional()) {
+            return super.createOptionalTableUpdateOperation(mutationTarget, optionalTableUpdate, factory);
+        }
+        return new MongoTranslatorFactory()
+                .buildOptionalTableUpdateTranslator(optionalTableUpdate, factory)
+                .translate(null, QueryOptions.NONE);
+    }
 }
@@ -18,6 +18,7 @@ package com.mongodb.hibernate.internal;
 
 import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
 
+import java.time.Duration;
 import org.jspecify.annotations.Nullable;
 
 /** Util class for checking, for example, argument values. */
@@ -31,4 +32,20 @@ public final class MongoChecks {
         }
         return value;
     }
+
+    public static int notNegative(String name, int value) {
+        assertNotNull(name);
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+        return value;
+    }
+
+    public static Duration notNegative(String name, @Nullable Duration value) {
+        var result = notNull(name, value);
+        if (result.isNegative()) {
+            throw new IllegalArgumentException(name + " must not be negative");
+        }
+        return result;
+    }
 }
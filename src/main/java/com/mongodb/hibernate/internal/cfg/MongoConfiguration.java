@@ -17,7 +17,9 @@
 package com.mongodb.hibernate.internal.cfg;
 
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
 import com.mongodb.hibernate.cfg.MongoConfigurator;
+import java.time.Duration;
 import java.util.function.Consumer;
 
 /**
@@ -25,6 +27,18 @@ import java.util.function.Consumer;
  *
  * @param mongoClientSettings {@link MongoConfigurator#applyToMongoClientSettings(Consumer)}.
  * @param databaseName {@link MongoConfigurator#databaseName(String)}.
+ * @param cursorPrefetchBatches {@link MongoConfigurator#cursorPrefetchBatches(int)}.
+ * @param transactionMaxRetries {@link MongoConfigurator#transactionRetries(int, Duration)}.
+ * @param transactionRetryMaxBackoff {@link MongoConfigurator#transactionRetries(int, Duration)}.
+ * @param transactionStartOnFirstWrite {@link MongoConfigurator#transactionStartOnFirstWrite(boolean)}.
+ * @param readOnlyReadPreference {@link MongoConfigurator#readOnlyReadPreference(ReadPreference)}.
  * @see MongoConfigurationBuilder#build()
  */
-public record MongoConfiguration(MongoClientSettings mongoClientSettings, String databaseName) {}
+public record MongoConfiguration(
+        MongoClientSettings mongoClientSettings,
+        String databaseName,
+        int cursorPrefetchBatches,
+        int transactionMaxRetries,
+        Duration transactionRetryMaxBackoff,
+        boolean transactionStartOnFirstWrite,
+        ReadPreference readOnlyReadPreference) {}
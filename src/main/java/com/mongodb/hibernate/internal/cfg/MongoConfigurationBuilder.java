@@ -16,6 +16,7 @@
 
 package com.mongodb.hibernate.internal.cfg;
 
+import static com.mongodb.hibernate.internal.MongoChecks.notNegative;
 import static com.mongodb.hibernate.internal.MongoChecks.notNull;
 import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
 import static java.lang.String.format;
@@ -23,9 +24,11 @@ import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
 import com.mongodb.hibernate.cfg.MongoConfigurator;
 import com.mongodb.hibernate.internal.VisibleForTesting;
 import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -36,9 +39,16 @@ import org.jspecify.annotations.Nullable;
 public final class MongoConfigurationBuilder implements MongoConfigurator {
     private final MongoClientSettings.Builder mongoClientSettingsBuilder;
     private @Nullable String databaseName;
+    private int cursorPrefetchBatches;
+    private int transactionMaxRetries;
+    private Duration transactionRetryMaxBackoff;
+    private boolean transactionStartOnFirstWrite;
+    private ReadPreference readOnlyReadPreference;
 
     public MongoConfigurationBuilder(Map<String, Object> configurationValues) {
         mongoClientSettingsBuilder = MongoClientSettings.builder();
+        transactionRetryMaxBackoff = Duration.ZERO;
+        readOnlyReadPreference = ReadPreference.primary();
         var connectionString =
                 MongoConfigurationBuilder.ConfigPropertiesParser.getConnectionString(configurationValues);
         if (connectionString != null) {
@@ -64,8 +74,40 @@ public final class MongoConfigurationBuilder implements MongoConfigurator {
         return this;
     }
 
+    @Override
+    public MongoConfigurationBuilder cursorPrefetchBatches(int cursorPrefetchBatches) {
+        this.cursorPrefetchBatches = notNegative("cursorPrefetchBatches", cursorPrefetchBatches);
+        return this;
+    }
+
+    @Override
+    public MongoConfigurationBuilder transactionRetries(int maxRetries, Duration maxBackoff) {
+        transactionMaxRetries = notNegative("maxRetries", maxRetries);
+        transactionRetryMaxBackoff = notNegative("maxBackoff", maxBackoff);
+        return this;
+    }
+
+    @Override
+    public MongoConfigurationBuilder transactionStartOnFirstWrite(boolean transactionStartOnFirstWrite) {
+        this.transactionStartOnFirstWrite = transactionStartOnFirstWrite;
+        return this;
+    }
+
+    @Override
+    public MongoConfigurationBuilder readOnlyReadPreference(ReadPreference readPreference) {
+        readOnlyReadPreference = notNull("readPreference", readPreference);
+        return this;
+    }
+
     public MongoConfiguration build() {
-        return new MongoConfiguration(mongoClientSettingsBuilder.build(), notNull("databaseName", databaseName));
+        return new MongoConfiguration(
+                mongoClientSettingsBuilder.build(),
+                notNull("databaseName", databaseName),
+                cursorPrefetchBatches,
+                transactionMaxRetries,
+                transactionRetryMaxBackoff,
+                transactionStartOnFirstWrite,
+                readOnlyReadPreference);
     }
 
     private static final class ConfigPropertiesParser {
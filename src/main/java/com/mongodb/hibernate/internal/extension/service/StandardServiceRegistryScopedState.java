@@ -23,6 +23,8 @@ import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
 import com.mongodb.hibernate.internal.VisibleForTesting;
 import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
 import com.mongodb.hibernate.internal.cfg.MongoConfigurationBuilder;
+import com.mongodb.hibernate.internal.mql.MqlCommandTemplates;
+import com.mongodb.hibernate.service.MongoTransactionRetrier;
 import com.mongodb.hibernate.service.spi.MongoConfigurationContributor;
 import java.io.Serial;
 import java.util.Map;
@@ -38,17 +40,32 @@ public final class StandardServiceRegistryScopedState implements Service {
     @Serial
     private static final long serialVersionUID = 1L;
 
+    private static final int MAX_MQL_COMMAND_TEMPLATES = 4096;
+
     private final MongoConfiguration config;
+    private final MqlCommandTemplates mqlCommandTemplates;
+    private final TransactionRetrier transactionRetrier;
 
     @VisibleForTesting(otherwise = PRIVATE)
     public StandardServiceRegistryScopedState(MongoConfiguration config) {
         this.config = config;
+        mqlCommandTemplates = new MqlCommandTemplates(MAX_MQL_COMMAND_TEMPLATES);
+        transactionRetrier =
+                new TransactionRetrier(config.transactionMaxRetries(), config.transactionRetryMaxBackoff());
     }
 
     public MongoConfiguration getConfiguration() {
         return config;
     }
 
+    public MqlCommandTemplates getMqlCommandTemplates() {
+        return mqlCommandTemplates;
+    }
+
+    public TransactionRetrier getTransactionRetrier() {
+        return transactionRetrier;
+    }
+
     public static final class ServiceContributor implements org.hibernate.service.spi.ServiceContributor {
         public ServiceContributor() {}
 
@@ -67,6 +84,20 @@ public final class StandardServiceRegistryScopedState implements Service {
                             createMongoConfiguration(configurationValues, serviceRegistry));
                 }
             });
+            serviceRegistryBuilder.addInitiator(new StandardServiceInitiator<MongoTransactionRetrier>() {
+                @Override
+                public Class<MongoTransactionRetrier> getServiceInitiated() {
+                    return MongoTransactionRetrier.class;
+                }
+
+                @Override
+                public MongoTransactionRetrier initiateService(
+                        Map<String, Object> configurationValues, ServiceRegistryImplementor serviceRegistry) {
+                    return serviceRegistry
+                            .requireService(StandardServiceRegistryScopedState.class)
+                            .getTransactionRetrier();
+                }
+            });
         }
 
         private MongoConfiguration createMongoConfiguration(
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.extension.service;
+
+import static com.mongodb.MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL;
+import static com.mongodb.MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.client.ClientSession;
+import com.mongodb.hibernate.service.MongoTransactionRetrier;
+import java.io.Serial;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Retries with the "full jitter" exponential backoff: the delay before a retry is random, up to a limit that doubles
+ * with each retry, starting with {@link #INITIAL_BACKOFF_NANOS}, until it reaches the configured maximum.
+ */
+public final class TransactionRetrier implements MongoTransactionRetrier {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final long INITIAL_BACKOFF_NANOS = MILLISECONDS.toNanos(5);
+
+    private final int maxRetries;
+    private final long maxBackoffNanos;
+    private final AtomicLong retryCount;
+    private final AtomicLong giveUpCount;
+
+    TransactionRetrier(int maxRetries, Duration maxBackoff) {
+        this.maxRetries = maxRetries;
+        maxBackoffNanos = maxBackoff.toNanos();
+        retryCount = new AtomicLong();
+        giveUpCount = new AtomicLong();
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> unitOfWork) {
+        for (var attempt = 0; ; attempt++) {
+            try {
+                return unitOfWork.get();
+            } catch (RuntimeException e) {
+                if (!hasErrorLabel(e, TRANSIENT_TRANSACTION_ERROR_LABEL)) {
+                    throw e;
+                }
+                backOffOrGiveUp(attempt, e);
+            }
+        }
+    }
+
+    /**
+     * {@linkplain ClientSession#commitTransaction() Commits} the transaction, and retries committing it if the result
+     * of the commit is {@linkplain MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL unknown}.
+     */
+    public void commit(ClientSession clientSession) {
+        for (var attempt = 0; ; attempt++) {
+            try {
+                clientSession.commitTransaction();
+                return;
+            } catch (MongoException e) {
+                if (!e.hasErrorLabel(UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL)) {
+                    throw e;
+                }
+                backOffOrGiveUp(attempt, e);
+            }
+        }
+    }
+
+    @Override
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    @Override
+    public long getGiveUpCount() {
+        return giveUpCount.get();
+    }
+
+    /** Throws {@code failure} if the number of retries is exhausted. */
+    private void backOffOrGiveUp(int attempt, RuntimeException failure) {
+        if (attempt >= maxRetries) {
+            if (maxRetries > 0) {
+                giveUpCount.incrementAndGet();
+            }
+            throw failure;
+        }
+        retryCount.incrementAndGet();
+        var backoffNanos = Math.min(maxBackoffNanos, INITIAL_BACKOFF_NANOS << Math.min(attempt, Long.SIZE / 2));
+        try {
+            NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(backoffNanos + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            var interrupted = new MongoInterruptedException("Interrupted while backing off before a retry", e);
+            interrupted.addSuppressed(failure);
+            throw interrupted;
+        }
+    }
+
+    private static boolean hasErrorLabel(RuntimeException exception, String label) {
+        for (@Nullable Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException && mongoException.hasErrorLabel(label)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
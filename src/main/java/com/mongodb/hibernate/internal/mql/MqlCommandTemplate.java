@@ -0,0 +1,297 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.mql;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntFunction;
+import org.bson.BsonArray;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+
+/**
+ * An immutable MQL command with parameter markers, together with everything about the parameters that does not depend
+ * on the values they are bound to.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class MqlCommandTemplate {
+    private static final Set<String> COMPARISON_OPERATORS =
+            Set.of("$eq", "$ne", "$gt", "$gte", "$lt", "$lte", "$in", "$nin");
+    /** The comparison query operators whose operands are arrays of the values to compare with. */
+    private static final Set<String> ARRAY_COMPARISON_OPERATORS = Set.of("$in", "$nin");
+
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private final RawBsonDocument command;
+    private final List<ParameterSlot> parameterSlots;
+    private final boolean comparingWithNullValues;
+
+    /**
+     * Whether the containers that {@link #bind(IntFunction, BasicOutputBuffer)} has to look into contain parameter
+     * markers, in the order they are encountered.
+     */
+    private final boolean[] containersWithParameterMarkers;
+
+    MqlCommandTemplate(RawBsonDocument command) {
+        this.command = command;
+        var slots = new ArrayList<ParameterSlot>();
+        var containerFlags = new ArrayList<Boolean>();
+        comparingWithNullValues = analyze(command, slots, containerFlags);
+        parameterSlots = List.copyOf(slots);
+        containersWithParameterMarkers = new boolean[containerFlags.size()];
+        for (var i = 0; i < containersWithParameterMarkers.length; i++) {
+            containersWithParameterMarkers[i] = containerFlags.get(i);
+        }
+    }
+
+    /** @return The command, in which parameters are represented by {@link BsonType#UNDEFINED} values. */
+    public RawBsonDocument getCommand() {
+        return command;
+    }
+
+    /** @return The slots of the parameters, in the order of their JDBC indexes. */
+    public List<ParameterSlot> getParameterSlots() {
+        return parameterSlots;
+    }
+
+    /**
+     * Tells whether the {@linkplain #getCommand() command} compares with a {@code null} literal.
+     *
+     * <p>TODO-HIBERNATE-74 delete this temporary method
+     */
+    public boolean isComparingWithNullValues() {
+        return comparingWithNullValues;
+    }
+
+    /**
+     * Writes the {@linkplain #getCommand() command} with each parameter marker replaced with the value of the parameter
+     * with the same index as its {@linkplain #getParameterSlots() slot}. The parts of the command without parameter
+     * markers are copied without decoding them into {@link BsonValue}s.
+     *
+     * @param parameterValues The values of the parameters by their zero-based indexes.
+     * @param buffer The buffer to write into. It is reset before writing, and may be reused once this method completes.
+     */
+    public RawBsonDocument bind(IntFunction<BsonValue> parameterValues, BasicOutputBuffer buffer) {
+        if (parameterSlots.isEmpty()) {
+            return command;
+        }
+        buffer.truncateToPosition(0);
+        try (var reader = new BsonBinaryReader(command.getByteBuffer().asNIO());
+                var writer = new BsonBinaryWriter(buffer)) {
+            new Binder(reader, writer, parameterValues).bindDocument();
+        }
+        return new RawBsonDocument(buffer.toByteArray());
+    }
+
+    private static boolean analyze(BsonDocument document, List<ParameterSlot> slots, List<Boolean> containerFlags) {
+        var comparingWithNullValues = false;
+        for (var entry : document.entrySet()) {
+            var key = entry.getKey();
+            var value = entry.getValue();
+            if (isParameterMarker(value)) {
+                slots.add(new ParameterSlot(
+                        COMPARISON_OPERATORS.contains(key), ARRAY_COMPARISON_OPERATORS.contains(key)));
+            } else if (value.isNull() && COMPARISON_OPERATORS.contains(key)) {
+                comparingWithNullValues = true;
+            } else if (value.getBsonType().isContainer()) {
+                comparingWithNullValues |=
+                        analyzeContainer(value, ARRAY_COMPARISON_OPERATORS.contains(key), slots, containerFlags);
+            }
+        }
+        return comparingWithNullValues;
+    }
+
+    /**
+     * @param comparisonOperands Whether the elements of {@code array} are the values a comparison query operator
+     *     compares with.
+     */
+    private static boolean analyze(
+            BsonArray array, boolean comparisonOperands, List<ParameterSlot> slots, List<Boolean> containerFlags) {
+        var comparingWithNullValues = false;
+        for (var value : array) {
+            if (isParameterMarker(value)) {
+                slots.add(new ParameterSlot(comparisonOperands, false));
+            } else if (value.isNull() && comparisonOperands) {
+                comparingWithNullValues = true;
+            } else if (value.getBsonType().isContainer()) {
+                comparingWithNullValues |= analyzeContainer(value, false, slots, containerFlags);
+            }
+        }
+        return comparingWithNullValues;
+    }
+
+    /**
+     * Records whether {@code container} has parameter markers in {@code containerFlags}. The flags of its nested
+     * containers are recorded only if it has them, because {@link Binder} does not look into it otherwise.
+     */
+    private static boolean analyzeContainer(
+            BsonValue container,
+            boolean comparisonOperands,
+            List<ParameterSlot> slots,
+            List<Boolean> containerFlags) {
+        var flagIndex = containerFlags.size();
+        containerFlags.add(false);
+        var slotCount = slots.size();
+        var comparingWithNullValues = analyze(container, comparisonOperands, slots, containerFlags);
+        if (slots.size() == slotCount) {
+            containerFlags.subList(flagIndex + 1, containerFlags.size()).clear();
+        } else {
+            containerFlags.set(flagIndex, true);
+        }
+        return comparingWithNullValues;
+    }
+
+    private static boolean analyze(
+            BsonValue value, boolean comparisonOperands, List<ParameterSlot> slots, List<Boolean> containerFlags) {
+        if (value instanceof BsonDocument document) {
+            return analyze(document, slots, containerFlags);
+        } else if (value instanceof BsonArray array) {
+            return analyze(array, comparisonOperands, slots, containerFlags);
+        } else {
+            throw fail("Only BSON container type (BsonDocument or BsonArray) is accepted; provided type: "
+                    + value.getBsonType());
+        }
+    }
+
+    private static boolean isParameterMarker(BsonValue value) {
+        return value.getBsonType() == BsonType.UNDEFINED;
+    }
+
+    /**
+     * A parameter marker within a {@linkplain MqlCommandTemplate#getCommand() command}.
+     *
+     * @param comparisonOperand Whether the marker is the operand of a comparison query operator, or an element of the
+     *     array operand of {@code $in} or {@code $nin}.
+     * @param comparisonOperandArray Whether the marker is the array operand of {@code $in} or {@code $nin}, that is,
+     *     whether the elements of the array bound to it are comparison operands.
+     */
+    public record ParameterSlot(boolean comparisonOperand, boolean comparisonOperandArray) {}
+
+    private final class Binder {
+        private final BsonBinaryReader reader;
+        private final BsonBinaryWriter writer;
+        private final IntFunction<BsonValue> parameterValues;
+        private int parameterIndex;
+        private int containerIndex;
+
+        Binder(BsonBinaryReader reader, BsonBinaryWriter writer, IntFunction<BsonValue> parameterValues) {
+            this.reader = reader;
+            this.writer = writer;
+            this.parameterValues = parameterValues;
+        }
+
+        void bindDocument() {
+            reader.readStartDocument();
+            writer.writeStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                writer.writeName(reader.readName());
+                bindValue();
+            }
+            reader.readEndDocument();
+            writer.writeEndDocument();
+        }
+
+        private void bindArray() {
+            reader.readStartArray();
+            writer.writeStartArray();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                bindValue();
+            }
+            reader.readEndArray();
+            writer.writeEndArray();
+        }
+
+        private void bindValue() {
+            switch (reader.getCurrentBsonType()) {
+                case UNDEFINED -> {
+                    reader.readUndefined();
+                    BSON_VALUE_CODEC.encode(writer, parameterValues.apply(parameterIndex++), ENCODER_CONTEXT);
+                }
+                case DOCUMENT -> {
+                    if (containersWithParameterMarkers[containerIndex++]) {
+                        bindDocument();
+                    } else {
+                        writer.pipe(reader);
+                    }
+                }
+                case ARRAY -> {
+                    if (containersWithParameterMarkers[containerIndex++]) {
+                        bindArray();
+                    } else {
+                        copyValue();
+                    }
+                }
+                default -> copyValue();
+            }
+        }
+
+        /** Copies the current value without decoding it into a {@link BsonValue}, unless it is of a rare type. */
+        private void copyValue() {
+            switch (reader.getCurrentBsonType()) {
+                case DOCUMENT -> writer.pipe(reader);
+                case ARRAY -> {
+                    reader.readStartArray();
+                    writer.writeStartArray();
+                    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                        copyValue();
+                    }
+                    reader.readEndArray();
+                    writer.writeEndArray();
+                }
+                case DOUBLE -> writer.writeDouble(reader.readDouble());
+                case STRING -> writer.writeString(reader.readString());
+                case BINARY -> writer.writeBinaryData(reader.readBinaryData());
+                case OBJECT_ID -> writer.writeObjectId(reader.readObjectId());
+                case BOOLEAN -> writer.writeBoolean(reader.readBoolean());
+                case DATE_TIME -> writer.writeDateTime(reader.readDateTime());
+                case NULL -> {
+                    reader.readNull();
+                    writer.writeNull();
+                }
+                case REGULAR_EXPRESSION -> writer.writeRegularExpression(reader.readRegularExpression());
+                case INT32 -> writer.writeInt32(reader.readInt32());
+                case TIMESTAMP -> writer.writeTimestamp(reader.readTimestamp());
+                case INT64 -> writer.writeInt64(reader.readInt64());
+                case DECIMAL128 -> writer.writeDecimal128(reader.readDecimal128());
+                case MIN_KEY -> {
+                    reader.readMinKey();
+                    writer.writeMinKey();
+                }
+                case MAX_KEY -> {
+                    reader.readMaxKey();
+                    writer.writeMaxKey();
+                }
+                default ->
+                    BSON_VALUE_CODEC.encode(writer, BSON_VALUE_CODEC.decode(reader, DECODER_CONTEXT), ENCODER_CONTEXT);
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.mql;
+
+import static com.mongodb.hibernate.internal.MongoConstants.EXTENDED_JSON_WRITER_SETTINGS;
+
+import com.mongodb.hibernate.jdbc.MongoCommandTemplateCacheStatistics;
+import java.io.Serial;
+import java.sql.SQLSyntaxErrorException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.bson.RawBsonDocument;
+
+/**
+ * {@linkplain MqlCommandTemplate Command templates} keyed by their MQL, which allows
+ * {@linkplain java.sql.Connection#prepareStatement(String) preparing} statements without parsing the MQL, and without
+ * searching the parsed command for parameter markers. The MQL is needed only for logging, and as a key in the Hibernate
+ * ORM caches.
+ *
+ * <p>The number of templates is bounded, the least recently used ones are evicted first.
+ *
+ * <p>This class is thread-safe.
+ */
+public final class MqlCommandTemplates implements MongoCommandTemplateCacheStatistics {
+    private final LeastRecentlyUsedMap<String, MqlCommandTemplate> templates;
+    private long hitCount;
+    private long missCount;
+
+    public MqlCommandTemplates(int maxSize) {
+        templates = new LeastRecentlyUsedMap<>(maxSize);
+    }
+
+    /**
+     * Registers the template of {@code command}.
+     *
+     * @return The MQL of {@code command}.
+     */
+    public String register(RawBsonDocument command) {
+        var mql = command.toJson(EXTENDED_JSON_WRITER_SETTINGS);
+        var template = new MqlCommandTemplate(command);
+        synchronized (templates) {
+            templates.put(mql, template);
+        }
+        return mql;
+    }
+
+    /**
+     * Gets the template {@linkplain #register(RawBsonDocument) registered} for {@code mql}, parses {@code mql} and
+     * registers the result if there is none.
+     */
+    public MqlCommandTemplate get(String mql) throws SQLSyntaxErrorException {
+        synchronized (templates) {
+            var template = templates.get(mql);
+            if (template != null) {
+                hitCount++;
+                return template;
+            }
+            missCount++;
+        }
+        RawBsonDocument command;
+        try {
+            command = RawBsonDocument.parse(mql);
+        } catch (RuntimeException e) {
+            throw new SQLSyntaxErrorException("Invalid MQL: " + mql, e);
+        }
+        var template = new MqlCommandTemplate(command);
+        synchronized (templates) {
+            templates.put(mql, template);
+        }
+        return template;
+    }
+
+    @Override
+    public long getHitCount() {
+        synchronized (templates) {
+            return hitCount;
+        }
+    }
+
+    @Override
+    public long getMissCount() {
+        synchronized (templates) {
+            return missCount;
+        }
+    }
+
+    @Override
+    public long getEvictionCount() {
+        synchronized (templates) {
+            return templates.evictionCount;
+        }
+    }
+
+    private static final class LeastRecentlyUsedMap<K, V> extends LinkedHashMap<K, V> {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+        private long evictionCount;
+
+        LeastRecentlyUsedMap(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            var evict = size() > maxSize;
+            if (evict) {
+                evictionCount++;
+            }
+            return evict;
+        }
+    }
+}
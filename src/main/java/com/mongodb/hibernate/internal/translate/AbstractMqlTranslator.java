@@ -21,9 +21,10 @@ import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertNull;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
 import static com.mongodb.hibernate.internal.MongoAssertions.fail;
-import static com.mongodb.hibernate.internal.MongoConstants.EXTENDED_JSON_WRITER_SETTINGS;
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
 import static com.mongodb.hibernate.internal.MongoConstants.MONGO_DBMS_NAME;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.COLLECTION_NAME;
+import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.EXPRESSION;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.FIELD_PATH;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.FILTER;
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.MODEL_MUTATION_RESULT;
@@ -35,6 +36,16 @@ import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor
 import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.VALUE;
 import static com.mongodb.hibernate.internal.translate.mongoast.AstLiteralValue.FALSE;
 import static com.mongodb.hibernate.internal.translate.mongoast.AstLiteralValue.TRUE;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.AVG;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.COUNT;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.FIRST;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.MAX;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.MIN;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.SUM;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConversionOperator.TO_DECIMAL;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConversionOperator.TO_DOUBLE;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConversionOperator.TO_INT;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConversionOperator.TO_LONG;
 import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortOrder.ASC;
 import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortOrder.DESC;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
@@ -43,6 +54,8 @@ import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstCompar
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.LT;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.LTE;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.NE;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstInFilterOperator.IN;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstInFilterOperator.NIN;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.AND;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.NOR;
 import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.OR;
@@ -51,46 +64,81 @@ import static org.hibernate.query.sqm.FetchClauseType.ROWS_ONLY;
 
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.internal.extension.service.StandardServiceRegistryScopedState;
+import com.mongodb.hibernate.internal.mql.MqlCommandTemplates;
 import com.mongodb.hibernate.internal.translate.mongoast.AstDocument;
 import com.mongodb.hibernate.internal.translate.mongoast.AstElement;
 import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
 import com.mongodb.hibernate.internal.translate.mongoast.AstLiteralValue;
 import com.mongodb.hibernate.internal.translate.mongoast.AstNode;
 import com.mongodb.hibernate.internal.translate.mongoast.AstParameterMarker;
+import com.mongodb.hibernate.internal.translate.mongoast.AstValue;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstComputedFieldUpdate;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstDeleteCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstFindAndModifyCommand;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstInsertCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstPipelineUpdate;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstSetUpdate;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstUpdate;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstUpdateCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.AstUpsertUpdate;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulator;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAggregateCommand;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstArithmeticExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstArithmeticOperator;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConcatExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConditionalExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConversionExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConversionOperator;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstFieldPathExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstGroupStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstLimitStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstLiteralExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstLookupStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstMatchStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageIncludeSpecification;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageSpecification;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSetStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSkipStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortField;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortOrder;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstSortStage;
 import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstUnwindStage;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstVariableExpression;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstExistsFilterOperation;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstInArrayFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstInFilterOperation;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilter;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstRegexFilterOperation;
+import com.mongodb.hibernate.internal.type.MongoStructJdbcType;
 import com.mongodb.hibernate.internal.type.ValueConversions;
-import java.io.IOException;
-import java.io.StringWriter;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonNull;
+import org.bson.BsonString;
 import org.bson.BsonValue;
-import org.bson.json.JsonWriter;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.util.collections.Stack;
+import org.hibernate.metamodel.mapping.internal.ToOneAttributeMapping;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.internal.SqlFragmentPredicate;
 import org.hibernate.query.NullPrecedence;
@@ -101,6 +149,7 @@ import org.hibernate.query.sqm.sql.internal.BasicValuedPathInterpretation;
 import org.hibernate.query.sqm.sql.internal.SqmParameterInterpretation;
 import org.hibernate.query.sqm.tree.expression.Conversion;
 import org.hibernate.sql.ast.Clause;
+import org.hibernate.sql.ast.SqlAstJoinType;
 import org.hibernate.sql.ast.SqlAstNodeRenderingMode;
 import org.hibernate.sql.ast.SqlAstTranslator;
 import org.hibernate.sql.ast.spi.SqlSelection;
@@ -111,6 +160,7 @@ import org.hibernate.sql.ast.tree.Statement;
 import org.hibernate.sql.ast.tree.cte.CteContainer;
 import org.hibernate.sql.ast.tree.delete.DeleteStatement;
 import org.hibernate.sql.ast.tree.expression.AggregateColumnWriteExpression;
+import org.hibernate.sql.ast.tree.expression.AggregateFunctionExpression;
 import org.hibernate.sql.ast.tree.expression.Any;
 import org.hibernate.sql.ast.tree.expression.BinaryArithmeticExpression;
 import org.hibernate.sql.ast.tree.expression.CaseSearchedExpression;
@@ -127,6 +177,7 @@ import org.hibernate.sql.ast.tree.expression.Every;
 import org.hibernate.sql.ast.tree.expression.Expression;
 import org.hibernate.sql.ast.tree.expression.ExtractUnit;
 import org.hibernate.sql.ast.tree.expression.Format;
+import org.hibernate.sql.ast.tree.expression.FunctionExpression;
 import org.hibernate.sql.ast.tree.expression.JdbcLiteral;
 import org.hibernate.sql.ast.tree.expression.JdbcParameter;
 import org.hibernate.sql.ast.tree.expression.Literal;
@@ -152,7 +203,9 @@ import org.hibernate.sql.ast.tree.from.TableGroup;
 import org.hibernate.sql.ast.tree.from.TableGroupJoin;
 import org.hibernate.sql.ast.tree.from.TableReferenceJoin;
 import org.hibernate.sql.ast.tree.from.ValuesTableReference;
+import org.hibernate.sql.ast.tree.insert.ConflictClause;
 import org.hibernate.sql.ast.tree.insert.InsertSelectStatement;
+import org.hibernate.sql.ast.tree.insert.Values;
 import org.hibernate.sql.ast.tree.predicate.BetweenPredicate;
 import org.hibernate.sql.ast.tree.predicate.BooleanExpressionPredicate;
 import org.hibernate.sql.ast.tree.predicate.ComparisonPredicate;
@@ -166,6 +219,7 @@ import org.hibernate.sql.ast.tree.predicate.Junction;
 import org.hibernate.sql.ast.tree.predicate.LikePredicate;
 import org.hibernate.sql.ast.tree.predicate.NegatedPredicate;
 import org.hibernate.sql.ast.tree.predicate.NullnessPredicate;
+import org.hibernate.sql.ast.tree.predicate.Predicate;
 import org.hibernate.sql.ast.tree.predicate.SelfRenderingPredicate;
 import org.hibernate.sql.ast.tree.predicate.ThruthnessPredicate;
 import org.hibernate.sql.ast.tree.select.QueryGroup;
@@ -183,6 +237,7 @@ import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.ast.AbstractRestrictedTableMutation;
+import org.hibernate.sql.model.ast.ColumnValueBinding;
 import org.hibernate.sql.model.ast.ColumnWriteFragment;
 import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.internal.TableDeleteCustomSql;
@@ -198,6 +253,8 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
     private final SessionFactoryImplementor sessionFactory;
 
+    private final MqlCommandTemplates mqlCommandTemplates;
+
     private final AstVisitorValueHolder astVisitorValueHolder = new AstVisitorValueHolder();
 
     private final List<JdbcParameterBinder> parameterBinders = new ArrayList<>();
@@ -206,12 +263,24 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
     private @Nullable QueryOptionsLimit queryOptionsLimit;
 
+    /**
+     * The identification variables of the joined tables. The fields of a joined table are in the embedded document
+     * named after its identification variable.
+     */
+    private final Set<String> joinedTableAliases = new HashSet<>();
+
+    /** Whether a field of a {@linkplain #joinedTableAliases joined table} has been referenced. */
+    private boolean joinedTableFieldReferenced;
+
+    /** Not {@code null} iff a query with GROUP BY is being translated. */
+    private @Nullable Grouping grouping;
+
     AbstractMqlTranslator(SessionFactoryImplementor sessionFactory) {
         this.sessionFactory = sessionFactory;
-        assertNotNull(sessionFactory
-                .getServiceRegistry()
-                .requireService(StandardServiceRegistryScopedState.class)
-                .getConfiguration());
+        var standardServiceRegistryScopedState =
+                sessionFactory.getServiceRegistry().requireService(StandardServiceRegistryScopedState.class);
+        assertNotNull(standardServiceRegistryScopedState.getConfiguration());
+        mqlCommandTemplates = standardServiceRegistryScopedState.getMqlCommandTemplates();
     }
 
     @Override
@@ -257,7 +326,11 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
     @Override
     public void visitStandardTableInsert(TableInsertStandard tableInsert) {
         if (tableInsert.getNumberOfReturningColumns() > 0) {
-            throw new FeatureNotSupportedException();
+            astVisitorValueHolder.yield(
+                    MODEL_MUTATION_RESULT,
+                    ModelMutationMqlTranslator.Result.create(
+                            createInsertReturningCommand(tableInsert), parameterBinders));
+            return;
         }
         var astElements = new ArrayList<AstElement>(tableInsert.getNumberOfValueBindings());
         for (var columnValueBinding : tableInsert.getValueBindings()) {
@@ -277,6 +350,45 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
                         parameterBinders));
     }
 
+    /**
+     * Hibernate ORM adds returning columns to {@code tableInsert} if the values of some of them are generated by the
+     * DBMS, for example, for {@link org.hibernate.annotations.CreationTimestamp} with
+     * {@link org.hibernate.annotations.SourceType#DB}. The {@code findAndModify} command returns them together with
+     * inserting the document, instead of Hibernate ORM reading them with another command. The document is upserted
+     * with a filter no document matches, so that, like the {@code insert} command, the command fails if a document
+     * with the same {@code _id} exists.
+     */
+    private AstFindAndModifyCommand createInsertReturningCommand(TableInsertStandard tableInsert) {
+        var idValueBinding = tableInsert.getValueBindings().stream()
+                .filter(AbstractMqlTranslator::isIdValueBinding)
+                .findFirst()
+                .orElseThrow(() -> new FeatureNotSupportedException(
+                        format("Returning columns requires the [%s] field to be inserted", ID_FIELD_NAME)));
+        var idValueExpression = idValueBinding.getValueExpression();
+        if (idValueExpression == null) {
+            throw new FeatureNotSupportedException();
+        }
+        var idValue = acceptAndYield(idValueExpression, VALUE);
+        var filter = new AstLogicalFilter(
+                AND,
+                List.of(
+                        new AstFieldOperationFilter(ID_FIELD_NAME, new AstComparisonFilterOperation(EQ, idValue)),
+                        new AstFieldOperationFilter(ID_FIELD_NAME, new AstExistsFilterOperation(false))));
+        var valueBindings = tableInsert.getValueBindings().stream()
+                .filter(valueBinding -> !isIdValueBinding(valueBinding))
+                .toList();
+        return new AstFindAndModifyCommand(
+                tableInsert.getMutatingTable().getTableName(),
+                filter,
+                new AstPipelineUpdate(createComputedFieldUpdates(valueBindings)),
+                true,
+                createReturningProjection(tableInsert.getReturningColumns()));
+    }
+
+    private static boolean isIdValueBinding(ColumnValueBinding valueBinding) {
+        return valueBinding.getColumnReference().getColumnExpression().equals(ID_FIELD_NAME);
+    }
+
     @Override
     public void visitColumnWriteFragment(ColumnWriteFragment columnWriteFragment) {
         if (columnWriteFragment.getParameters().size() != 1) {
@@ -294,37 +406,106 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
         astVisitorValueHolder.yield(
                 MODEL_MUTATION_RESULT,
                 ModelMutationMqlTranslator.Result.create(
-                        new AstDeleteCommand(tableDelete.getMutatingTable().getTableName(), keyFilter),
+                        new AstDeleteCommand(tableDelete.getMutatingTable().getTableName(), keyFilter, false),
                         parameterBinders));
     }
 
     @Override
     public void visitStandardTableUpdate(TableUpdateStandard tableUpdate) {
-        if (tableUpdate.getNumberOfReturningColumns() > 0) {
-            throw new FeatureNotSupportedException();
-        }
         if (tableUpdate.getWhereFragment() != null) {
             throw new FeatureNotSupportedException();
         }
+        var collection = tableUpdate.getMutatingTable().getTableName();
         var keyFilter = getKeyFilter(tableUpdate);
-        var updates = new ArrayList<AstFieldUpdate>(tableUpdate.getNumberOfValueBindings());
-        for (var valueBinding : tableUpdate.getValueBindings()) {
+        var valueBindings = tableUpdate.getValueBindings();
+        AstCommand command;
+        if (tableUpdate.getNumberOfReturningColumns() > 0) {
+            // like in `createInsertReturningCommand`, the values generated by the DBMS are returned by the command
+            command = new AstFindAndModifyCommand(
+                    collection,
+                    keyFilter,
+                    new AstPipelineUpdate(createComputedFieldUpdates(valueBindings)),
+                    false,
+                    createReturningProjection(tableUpdate.getReturningColumns()));
+        } else {
+            AstUpdate update;
+            if (valueBindings.stream().anyMatch(AbstractMqlTranslator::isStructValueBinding)) {
+                update = new AstPipelineUpdate(createComputedFieldUpdates(valueBindings));
+            } else {
+                update = new AstSetUpdate(createFieldUpdates(valueBindings));
+            }
+            command = new AstUpdateCommand(collection, keyFilter, update, false, false);
+        }
+        astVisitorValueHolder.yield(
+                MODEL_MUTATION_RESULT, ModelMutationMqlTranslator.Result.create(command, parameterBinders));
+    }
+
+    /**
+     * Hibernate ORM tracks whether an {@linkplain org.hibernate.annotations.Struct aggregate embeddable} is dirty only
+     * as a whole, and binds the whole struct, even if a single field of it changed. Setting the struct with the
+     * {@code $set} update operator makes MongoDB DBMS replace and replicate the whole embedded document, while setting
+     * it with an {@linkplain AstPipelineUpdate update pipeline} makes MongoDB DBMS compute the difference between the
+     * current and the updated document, and record in the oplog only the changed fields, including those nested in
+     * the embedded documents.
+     */
+    private static boolean isStructValueBinding(ColumnValueBinding valueBinding) {
+        return valueBinding.getColumnReference().getJdbcMapping().getJdbcType().getJdbcTypeCode()
+                == MongoStructJdbcType.JDBC_TYPE.getVendorTypeNumber();
+    }
+
+    private List<AstComputedFieldUpdate> createComputedFieldUpdates(List<ColumnValueBinding> valueBindings) {
+        var updates = new ArrayList<AstComputedFieldUpdate>(valueBindings.size());
+        for (var valueBinding : valueBindings) {
+            var fieldName = valueBinding.getColumnReference().getColumnExpression();
+            updates.add(new AstComputedFieldUpdate(fieldName, createComputedFieldValue(valueBinding)));
+        }
+        return updates;
+    }
+
+    /**
+     * The value is {@linkplain AstLiteralExpression literal}, unless Hibernate ORM writes the
+     * {@linkplain org.hibernate.dialect.Dialect#currentTimestamp() current timestamp} SQL fragment, for example, for
+     * {@link org.hibernate.annotations.UpdateTimestamp} with {@link org.hibernate.annotations.SourceType#DB}, in which
+     * case it is the date and time of the DBMS when it executes the command.
+     */
+    private AstExpression createComputedFieldValue(ColumnValueBinding valueBinding) {
+        var valueExpression = valueBinding.getValueExpression();
+        if (valueExpression == null) {
+            throw new FeatureNotSupportedException();
+        }
+        if (valueExpression.getParameters().isEmpty()) {
+            var fragment = valueExpression.getFragment();
+            if (!fragment.equalsIgnoreCase(getSessionFactory().getJdbcServices().getDialect().currentTimestamp())) {
+                throw new FeatureNotSupportedException(format("SQL fragment [%s] is not supported", fragment));
+            }
+            return AstVariableExpression.NOW;
+        }
+        return new AstLiteralExpression(acceptAndYield(valueExpression, VALUE));
+    }
+
+    private static List<AstProjectStageIncludeSpecification> createReturningProjection(
+            List<ColumnReference> returningColumns) {
+        return returningColumns.stream()
+                .map(column -> new AstProjectStageIncludeSpecification(column.getColumnExpression()))
+                .toList();
+    }
+
+    private List<AstFieldUpdate> createFieldUpdates(List<ColumnValueBinding> valueBindings) {
+        var updates = new ArrayList<AstFieldUpdate>(valueBindings.size());
+        for (var valueBinding : valueBindings) {
             var fieldName = valueBinding.getColumnReference().getColumnExpression();
             var fieldValue = acceptAndYield(valueBinding.getValueExpression(), VALUE);
             updates.add(new AstFieldUpdate(fieldName, fieldValue));
         }
-        astVisitorValueHolder.yield(
-                MODEL_MUTATION_RESULT,
-                ModelMutationMqlTranslator.Result.create(
-                        new AstUpdateCommand(tableUpdate.getMutatingTable().getTableName(), keyFilter, updates),
-                        parameterBinders));
+        return updates;
     }
 
+    /**
+     * The filter also compares the fields used for optimistic locking, for example, the
+     * {@linkplain jakarta.persistence.Version version}, with their expected values, so that no document is matched if
+     * they were changed concurrently.
+     */
     private AstFilter getKeyFilter(AbstractRestrictedTableMutation<? extends MutationOperation> tableMutation) {
-        if (tableMutation.getNumberOfOptimisticLockBindings() > 0) {
-            throw new FeatureNotSupportedException("TODO-HIBERNATE-51 https://jira.mongodb.org/browse/HIBERNATE-51");
-        }
-
         if (tableMutation.getNumberOfKeyBindings() > 1) {
             throw new FeatureNotSupportedException(
                     format("%s does not support primary key spanning multiple columns", MONGO_DBMS_NAME));
@@ -334,7 +515,26 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
         var astFilterFieldPath = keyBinding.getColumnReference().getColumnExpression();
         var fieldValue = acceptAndYield(keyBinding.getValueExpression(), VALUE);
-        return new AstFieldOperationFilter(astFilterFieldPath, new AstComparisonFilterOperation(EQ, fieldValue));
+        var keyFilter =
+                new AstFieldOperationFilter(astFilterFieldPath, new AstComparisonFilterOperation(EQ, fieldValue));
+        if (tableMutation.getNumberOfOptimisticLockBindings() == 0) {
+            return keyFilter;
+        }
+
+        var filters = new ArrayList<AstFilter>(1 + tableMutation.getNumberOfOptimisticLockBindings());
+        filters.add(keyFilter);
+        for (var optimisticLockBinding : tableMutation.getOptimisticLockBindings()) {
+            var valueExpression = optimisticLockBinding.getValueExpression();
+            if (valueExpression == null) {
+                throw new FeatureNotSupportedException(
+                        "TODO-HIBERNATE-74 https://jira.mongodb.org/browse/HIBERNATE-74");
+            }
+            var lockFieldPath = optimisticLockBinding.getColumnReference().getColumnExpression();
+            var expectedValue = acceptAndYield(valueExpression, VALUE);
+            filters.add(
+                    new AstFieldOperationFilter(lockFieldPath, new AstComparisonFilterOperation(EQ, expectedValue)));
+        }
+        return new AstLogicalFilter(AND, filters);
     }
 
     @Override
@@ -354,23 +554,55 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
     @Override
     public void visitQuerySpec(QuerySpec querySpec) {
-        if (!querySpec.getGroupByClauseExpressions().isEmpty()) {
-            throw new FeatureNotSupportedException("GroupBy is not supported");
-        }
-
         var collection = acceptAndYield(querySpec.getFromClause(), COLLECTION_NAME);
 
-        var stages = new ArrayList<AstStage>();
+        var lookupAndUnwindStages = new ArrayList<AstStage>();
+        var lookupsPreserveDocumentCount =
+                addLookupAndUnwindStages(querySpec.getFromClause().getRoots().get(0), lookupAndUnwindStages);
+        joinedTableFieldReferenced = false;
+        var whereMatchStage = createMatchStage(querySpec.getWhereClauseRestrictions());
 
-        createMatchStage(querySpec).ifPresent(stages::add);
-        createSortStage(querySpec).ifPresent(stages::add);
+        if (!querySpec.getGroupByClauseExpressions().isEmpty()) {
+            assertNull(grouping);
+            grouping = new Grouping(getGroupKeyFieldPaths(querySpec));
+        }
+        var havingClauseRestrictions = querySpec.getHavingClauseRestrictions();
+        if (grouping == null && havingClauseRestrictions != null && !havingClauseRestrictions.isEmpty()) {
+            throw new FeatureNotSupportedException("HAVING is supported only together with GROUP BY");
+        }
+        var havingMatchStage = createMatchStage(havingClauseRestrictions);
+        var sortStage = createSortStage(querySpec);
 
         var skipLimitStagesAndJdbcParams =
                 assertNotNull(queryOptionsLimit).createSkipLimitStagesAndJdbcParams(querySpec);
-        stages.addAll(skipLimitStagesAndJdbcParams.stages());
+
+        var stages = new ArrayList<AstStage>();
+        var groupStageIndex = -1;
+        if (grouping == null && lookupsPreserveDocumentCount && !joinedTableFieldReferenced) {
+            // The documents are filtered, sorted and paged before the joined documents are looked up,
+            // so that only the documents that end up in the result are joined
+            whereMatchStage.ifPresent(stages::add);
+            sortStage.ifPresent(stages::add);
+            stages.addAll(skipLimitStagesAndJdbcParams.stages());
+            stages.addAll(lookupAndUnwindStages);
+        } else {
+            stages.addAll(lookupAndUnwindStages);
+            whereMatchStage.ifPresent(stages::add);
+            groupStageIndex = stages.size();
+            havingMatchStage.ifPresent(stages::add);
+            sortStage.ifPresent(stages::add);
+            stages.addAll(skipLimitStagesAndJdbcParams.stages());
+        }
 
         stages.add(createProjectStage(querySpec.getSelectClause()));
 
+        if (grouping != null) {
+            // The group stages are created last, because the accumulators are collected
+            // while translating the HAVING, ORDER BY and SELECT clauses
+            stages.addAll(groupStageIndex, grouping.createStages());
+            grouping = null;
+        }
+
         astVisitorValueHolder.yield(
                 SELECT_RESULT,
                 new SelectMqlTranslator.Result(
@@ -381,10 +613,88 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
                         skipLimitStagesAndJdbcParams.limit()));
     }
 
-    private Optional<AstMatchStage> createMatchStage(QuerySpec querySpec) {
-        var whereClauseRestrictions = querySpec.getWhereClauseRestrictions();
-        if (whereClauseRestrictions != null && !whereClauseRestrictions.isEmpty()) {
-            var filter = acceptAndYield(whereClauseRestrictions, FILTER);
+    /**
+     * Each joined table is looked up into an embedded document of the documents of the joining table, so that the
+     * fields of both are available to the subsequent stages.
+     *
+     * @return Whether the stages neither drop, nor multiply the documents of the joining table, that is, whether each
+     *     join is a {@linkplain SqlAstJoinType#LEFT left} join of a {@linkplain ToOneAttributeMapping to-one}
+     *     association.
+     */
+    private boolean addLookupAndUnwindStages(TableGroup tableGroup, List<AstStage> stages) {
+        var preserveDocumentCount = true;
+        var tableGroupJoins = new ArrayList<>(tableGroup.getTableGroupJoins());
+        tableGroupJoins.addAll(tableGroup.getNestedTableGroupJoins());
+        for (var tableGroupJoin : tableGroupJoins) {
+            var joinedGroup = tableGroupJoin.getJoinedGroup();
+            if (!joinedGroup.isInitialized()) {
+                continue;
+            }
+            if (joinedGroup.isVirtual()) {
+                preserveDocumentCount &= addLookupAndUnwindStages(joinedGroup, stages);
+                continue;
+            }
+            var joinType = tableGroupJoin.getJoinType();
+            if (joinType != SqlAstJoinType.INNER && joinType != SqlAstJoinType.LEFT) {
+                throw new FeatureNotSupportedException(format("%s join is not supported", joinType));
+            }
+            if (!(joinedGroup.getPrimaryTableReference() instanceof NamedTableReference joinedTableReference)
+                    || !joinedGroup.getTableReferenceJoins().isEmpty()) {
+                throw new FeatureNotSupportedException("Only single table joins are supported");
+            }
+            var alias = joinedTableReference.getIdentificationVariable();
+            if (!(tableGroupJoin.getPredicate() instanceof ComparisonPredicate joinPredicate)
+                    || joinPredicate.getOperator() != ComparisonOperator.EQUAL
+                    || !(joinPredicate.getLeftHandExpression() instanceof ColumnReference lhs)
+                    || !(joinPredicate.getRightHandExpression() instanceof ColumnReference rhs)
+                    || alias.equals(lhs.getQualifier()) == alias.equals(rhs.getQualifier())) {
+                throw new FeatureNotSupportedException(
+                        "Only joins on the equality of a field of the joining table and a field of the joined table"
+                                + " are supported");
+            }
+            var isJoinedOnLeftHandSide = alias.equals(lhs.getQualifier());
+            var localField = acceptAndYield(isJoinedOnLeftHandSide ? rhs : lhs, FIELD_PATH);
+            var foreignField = acceptAndYield(isJoinedOnLeftHandSide ? lhs : rhs, FIELD_PATH);
+            var from = joinedTableReference.getTableExpression();
+            affectedTableNames.add(from);
+            stages.add(new AstLookupStage(from, localField, foreignField, alias));
+            stages.add(new AstUnwindStage(alias, joinType == SqlAstJoinType.LEFT));
+            joinedTableAliases.add(alias);
+            preserveDocumentCount &= joinType == SqlAstJoinType.LEFT
+                    && joinedGroup.getModelPart() instanceof ToOneAttributeMapping;
+            preserveDocumentCount &= addLookupAndUnwindStages(joinedGroup, stages);
+        }
+        return preserveDocumentCount;
+    }
+
+    private List<String> getGroupKeyFieldPaths(QuerySpec querySpec) {
+        var keyFieldPaths = new ArrayList<String>();
+        for (var groupByExpression : querySpec.getGroupByClauseExpressions()) {
+            var sqlTuple = SqlTupleContainer.getSqlTuple(groupByExpression);
+            var expressions = sqlTuple == null ? List.of(groupByExpression) : acceptAndYield(sqlTuple, TUPLE);
+            for (var expression : expressions) {
+                if (!isFieldPathExpression(expression)) {
+                    throw new FeatureNotSupportedException("Only fields are supported in GROUP BY");
+                }
+                var keyFieldPath = acceptAndYield(expression, FIELD_PATH);
+                if (keyFieldPath.contains(".")) {
+                    throw new FeatureNotSupportedException("Grouping by the fields of joined tables is not supported");
+                }
+                if (!keyFieldPaths.contains(keyFieldPath)) {
+                    keyFieldPaths.add(keyFieldPath);
+                }
+            }
+        }
+        if (keyFieldPaths.size() > 1 && keyFieldPaths.contains(ID_FIELD_NAME)) {
+            throw new FeatureNotSupportedException(
+                    format("Grouping by the [%s] field together with other fields is not supported", ID_FIELD_NAME));
+        }
+        return keyFieldPaths;
+    }
+
+    private Optional<AstMatchStage> createMatchStage(@Nullable Predicate restrictions) {
+        if (restrictions != null && !restrictions.isEmpty()) {
+            var filter = acceptAndYield(restrictions, FILTER);
             return Optional.of(new AstMatchStage(filter));
         } else {
             return Optional.empty();
@@ -540,10 +850,19 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
             if (sqlSelection.isVirtual()) {
                 continue;
             }
-            if (!(sqlSelection.getExpression() instanceof ColumnReference columnReference)) {
+            var expression = sqlSelection.getExpression();
+            String field;
+            if (expression instanceof ColumnReference columnReference) {
+                field = acceptAndYield(columnReference, FIELD_PATH);
+                if (grouping != null && !grouping.keyFieldPaths.contains(field)) {
+                    throw new FeatureNotSupportedException(
+                            format("Selecting the [%s] field, which is not in GROUP BY, is not supported", field));
+                }
+            } else if (expression instanceof AggregateFunctionExpression) {
+                field = acceptAndYield(expression, FIELD_PATH);
+            } else {
                 throw new FeatureNotSupportedException();
             }
-            var field = acceptAndYield(columnReference, FIELD_PATH);
             projectStageSpecifications.add(new AstProjectStageIncludeSpecification(field));
         }
         astVisitorValueHolder.yield(PROJECT_STAGE_SPECIFICATIONS, projectStageSpecifications);
@@ -554,7 +873,12 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
         if (columnReference.isColumnExpressionFormula()) {
             throw new FeatureNotSupportedException("Formula is not supported");
         }
-        astVisitorValueHolder.yield(FIELD_PATH, columnReference.getColumnExpression());
+        var qualifier = columnReference.getQualifier();
+        var columnExpression = columnReference.getColumnExpression();
+        var joinedTableField = qualifier != null && joinedTableAliases.contains(qualifier);
+        joinedTableFieldReferenced |= joinedTableField;
+        var fieldPath = joinedTableField ? qualifier + "." + columnExpression : columnExpression;
+        astVisitorValueHolder.yield(FIELD_PATH, fieldPath);
     }
 
     @Override
@@ -664,7 +988,7 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
         astVisitorValueHolder.yield(
                 MUTATION_RESULT,
                 new MutationMqlTranslator.Result(
-                        new AstDeleteCommand(collection, filter), parameterBinders, affectedTableNames));
+                        new AstDeleteCommand(collection, filter, true), parameterBinders, affectedTableNames));
     }
 
     @Override
@@ -674,23 +998,51 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
         var filter = acceptAndYield(updateStatement.getRestriction(), FILTER);
 
         var assignments = updateStatement.getAssignments();
-        var fieldUpdates = new ArrayList<AstFieldUpdate>(assignments.size());
-        for (var assignment : assignments) {
-            var fieldReferences = assignment.getAssignable().getColumnReferences();
-            assertTrue(fieldReferences.size() == 1);
-
-            var fieldPath = acceptAndYield(fieldReferences.get(0), FIELD_PATH);
-            var assignedValue = assignment.getAssignedValue();
-            if (!isValueExpression(assignedValue)) {
-                throw new FeatureNotSupportedException();
+        AstUpdate update;
+        if (assignments.stream().allMatch(assignment -> isValueExpression(assignment.getAssignedValue()))) {
+            var fieldUpdates = new ArrayList<AstFieldUpdate>(assignments.size());
+            for (var assignment : assignments) {
+                var fieldPath = getAssignedFieldPath(assignment);
+                var fieldValue = acceptAndYield(assignment.getAssignedValue(), VALUE);
+                fieldUpdates.add(new AstFieldUpdate(fieldPath, fieldValue));
             }
-            var fieldValue = acceptAndYield(assignedValue, VALUE);
-            fieldUpdates.add(new AstFieldUpdate(fieldPath, fieldValue));
+            update = new AstSetUpdate(fieldUpdates);
+        } else {
+            // the values are computed on the server from the current values of the fields, atomically
+            var fieldUpdates = new ArrayList<AstComputedFieldUpdate>(assignments.size());
+            for (var assignment : assignments) {
+                var fieldPath = getAssignedFieldPath(assignment);
+                var expression = createExpression(assignment.getAssignedValue());
+                fieldUpdates.add(new AstComputedFieldUpdate(fieldPath, expression));
+            }
+            update = new AstPipelineUpdate(fieldUpdates);
         }
         astVisitorValueHolder.yield(
                 MUTATION_RESULT,
                 new MutationMqlTranslator.Result(
-                        new AstUpdateCommand(collection, filter, fieldUpdates), parameterBinders, affectedTableNames));
+                        new AstUpdateCommand(collection, filter, update, true, false),
+                        parameterBinders,
+                        affectedTableNames));
+    }
+
+    private String getAssignedFieldPath(Assignment assignment) {
+        var fieldReferences = assignment.getAssignable().getColumnReferences();
+        assertTrue(fieldReferences.size() == 1);
+        return acceptAndYield(fieldReferences.get(0), FIELD_PATH);
+    }
+
+    /**
+     * Values are {@linkplain AstLiteralExpression literal expressions}, so that strings starting with {@code $} are not
+     * mistaken for field paths.
+     */
+    private AstExpression createExpression(Expression expression) {
+        if (isValueExpression(expression)) {
+            return new AstLiteralExpression(acceptAndYield(expression, VALUE));
+        } else if (isFieldPathExpression(expression)) {
+            return new AstFieldPathExpression(acceptAndYield(expression, FIELD_PATH));
+        } else {
+            return acceptAndYield(expression, EXPRESSION);
+        }
     }
 
     private String addToAffectedTableNames(NamedTableReference tableRef) {
@@ -702,9 +1054,6 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
     @Override
     public void visitInsertStatement(InsertSelectStatement insertStatement) {
         checkMutationStatementSupportability(insertStatement);
-        if (insertStatement.getConflictClause() != null) {
-            throw new FeatureNotSupportedException("TODO-HIBERNATE-94 https://jira.mongodb.org/browse/HIBERNATE-94");
-        }
         if (insertStatement.getSourceSelectStatement() != null) {
             throw new FeatureNotSupportedException("Insertion statement with source selection is not supported");
         }
@@ -722,6 +1071,17 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
         var valuesList = insertStatement.getValuesList();
         assertFalse(valuesList.isEmpty());
 
+        var conflictClause = insertStatement.getConflictClause();
+        if (conflictClause != null) {
+            astVisitorValueHolder.yield(
+                    MUTATION_RESULT,
+                    new MutationMqlTranslator.Result(
+                            createUpsertCommand(collection, fieldNames, valuesList, conflictClause),
+                            parameterBinders,
+                            affectedTableNames));
+            return;
+        }
+
         var documents = new ArrayList<AstDocument>(valuesList.size());
         for (var values : valuesList) {
             var fieldValueExpressions = values.getExpressions();
@@ -745,6 +1105,70 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
                         new AstInsertCommand(collection, documents), parameterBinders, affectedTableNames));
     }
 
+    /**
+     * Translates the insertion of a single row with {@code on conflict(id) do update set field = excluded.field, ...}
+     * to an {@code update} command with {@code upsert: true}. If a document with the same {@code _id} exists, only the
+     * assigned fields are set, otherwise a document with all the inserted fields is inserted.
+     */
+    private AstUpdateCommand createUpsertCommand(
+            String collection, List<String> fieldNames, List<Values> valuesList, ConflictClause conflictClause) {
+        if (conflictClause.isDoNothing()
+                || conflictClause.getConstraintName() != null
+                || conflictClause.getPredicate() != null
+                || valuesList.size() != 1) {
+            throw new FeatureNotSupportedException("TODO-HIBERNATE-94 https://jira.mongodb.org/browse/HIBERNATE-94");
+        }
+        var constraintFieldNames = conflictClause.getConstraintColumnNames();
+        if (!constraintFieldNames.isEmpty() && !constraintFieldNames.equals(List.of(ID_FIELD_NAME))) {
+            throw new FeatureNotSupportedException(
+                    format("Only conflicts on the [%s] field are supported", ID_FIELD_NAME));
+        }
+        var idFieldIndex = fieldNames.indexOf(ID_FIELD_NAME);
+        if (idFieldIndex < 0) {
+            throw new FeatureNotSupportedException(
+                    format("Insertion with a conflict clause must specify the [%s] field", ID_FIELD_NAME));
+        }
+        var fieldValueExpressions = valuesList.get(0).getExpressions();
+        assertTrue(fieldNames.size() == fieldValueExpressions.size());
+        for (var fieldValueExpression : fieldValueExpressions) {
+            if (!isValueExpression(fieldValueExpression)) {
+                throw new FeatureNotSupportedException();
+            }
+        }
+
+        var assignedFieldNames = new ArrayList<String>(conflictClause.getAssignments().size());
+        for (var assignment : conflictClause.getAssignments()) {
+            var fieldName = getAssignedFieldPath(assignment);
+            if (fieldName.equals(ID_FIELD_NAME)
+                    || !fieldNames.contains(fieldName)
+                    || !(assignment.getAssignedValue() instanceof ColumnReference excludedFieldReference)
+                    || !"excluded".equals(excludedFieldReference.getQualifier())
+                    || !excludedFieldReference.getColumnExpression().equals(fieldName)) {
+                throw new FeatureNotSupportedException(
+                        "Only assigning the inserted values of the same fields in conflict clauses is supported");
+            }
+            assignedFieldNames.add(fieldName);
+        }
+
+        var idValue = acceptAndYield(fieldValueExpressions.get(idFieldIndex), VALUE);
+        var filter = new AstFieldOperationFilter(ID_FIELD_NAME, new AstComparisonFilterOperation(EQ, idValue));
+        var fieldUpdates = new ArrayList<AstFieldUpdate>(assignedFieldNames.size());
+        for (var fieldName : assignedFieldNames) {
+            var fieldValue = acceptAndYield(fieldValueExpressions.get(fieldNames.indexOf(fieldName)), VALUE);
+            fieldUpdates.add(new AstFieldUpdate(fieldName, fieldValue));
+        }
+        var insertOnlyFieldUpdates = new ArrayList<AstFieldUpdate>(fieldNames.size() - assignedFieldNames.size());
+        for (var i = 0; i < fieldNames.size(); i++) {
+            var fieldName = fieldNames.get(i);
+            if (i != idFieldIndex && !assignedFieldNames.contains(fieldName)) {
+                var fieldValue = acceptAndYield(fieldValueExpressions.get(i), VALUE);
+                insertOnlyFieldUpdates.add(new AstFieldUpdate(fieldName, fieldValue));
+            }
+        }
+        return new AstUpdateCommand(
+                collection, filter, new AstUpsertUpdate(fieldUpdates, insertOnlyFieldUpdates), false, true);
+    }
+
     @Override
     public void visitAssignment(Assignment assignment) {
         throw new FeatureNotSupportedException();
@@ -837,7 +1261,24 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
     @Override
     public void visitBinaryArithmeticExpression(BinaryArithmeticExpression binaryArithmeticExpression) {
-        throw new FeatureNotSupportedException();
+        var operator =
+                switch (binaryArithmeticExpression.getOperator()) {
+                    case ADD -> AstArithmeticOperator.ADD;
+                    case SUBTRACT -> AstArithmeticOperator.SUBTRACT;
+                    case MULTIPLY -> AstArithmeticOperator.MULTIPLY;
+                    case DIVIDE, DIVIDE_PORTABLE, QUOT -> AstArithmeticOperator.DIVIDE;
+                    case MODULO -> AstArithmeticOperator.MOD;
+                };
+        var left = createExpression(binaryArithmeticExpression.getLeftHandOperand());
+        var right = createExpression(binaryArithmeticExpression.getRightHandOperand());
+        AstExpression expression = new AstArithmeticExpression(operator, left, right);
+        // keeps the type of the result, for example, truncates the result of dividing integers,
+        // and fails instead of promoting the result of adding integers to long if it overflows
+        var conversionOperator = getConversionOperator(binaryArithmeticExpression);
+        if (conversionOperator != null) {
+            expression = new AstConversionExpression(conversionOperator, expression);
+        }
+        astVisitorValueHolder.yield(EXPRESSION, expression);
     }
 
     @Override
@@ -870,9 +1311,83 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
         throw new FeatureNotSupportedException();
     }
 
+    /**
+     * Translates an aggregate function to the field of the documents produced by the {@link AstGroupStage} that holds
+     * the result of the function.
+     */
     @Override
     public void visitSelfRenderingExpression(SelfRenderingExpression selfRenderingExpression) {
-        throw new FeatureNotSupportedException();
+        if (!(selfRenderingExpression instanceof AggregateFunctionExpression aggregateFunction)) {
+            if (selfRenderingExpression instanceof FunctionExpression function
+                    && function.getFunctionName().equals("concat")) {
+                astVisitorValueHolder.yield(EXPRESSION, createConcatExpression(function));
+                return;
+            }
+            throw new FeatureNotSupportedException();
+        }
+        if (grouping == null) {
+            throw new FeatureNotSupportedException("Aggregate functions are supported only together with GROUP BY");
+        }
+        if (aggregateFunction.getFilter() != null) {
+            throw new FeatureNotSupportedException("FILTER clause of aggregate functions is not supported");
+        }
+        var accumulator = createAccumulator(aggregateFunction);
+        grouping.addAccumulator(accumulator);
+        astVisitorValueHolder.yield(FIELD_PATH, accumulator.field());
+    }
+
+    private AstConcatExpression createConcatExpression(FunctionExpression concatFunction) {
+        var arguments = concatFunction.getArguments();
+        var inputs = new ArrayList<AstExpression>(arguments.size());
+        for (var argument : arguments) {
+            if (!(argument instanceof Expression argumentExpression)) {
+                throw new FeatureNotSupportedException();
+            }
+            inputs.add(createExpression(argumentExpression));
+        }
+        return new AstConcatExpression(inputs);
+    }
+
+    private AstAccumulator createAccumulator(AggregateFunctionExpression aggregateFunction) {
+        var functionName = aggregateFunction.getFunctionName();
+        var arguments = aggregateFunction.getArguments();
+        if (arguments.size() != 1) {
+            throw new FeatureNotSupportedException(format(
+                    "Aggregate function [%s] with [%d] arguments is not supported", functionName, arguments.size()));
+        }
+        var argument = arguments.get(0);
+        if (argument instanceof Distinct) {
+            throw new FeatureNotSupportedException("DISTINCT in aggregate functions is not supported");
+        }
+        var operator =
+                switch (functionName) {
+                    case "count" -> COUNT;
+                    case "sum" -> SUM;
+                    case "avg" -> AVG;
+                    case "min" -> MIN;
+                    case "max" -> MAX;
+                    default -> throw new FeatureNotSupportedException(
+                            format("Aggregate function [%s] is not supported", functionName));
+                };
+        if (operator == COUNT && argument instanceof Star) {
+            return new AstAccumulator("count(*)", COUNT, null);
+        }
+        if (!(argument instanceof Expression argumentExpression) || !isFieldPathExpression(argumentExpression)) {
+            throw new FeatureNotSupportedException("Only fields are supported as arguments of aggregate functions");
+        }
+        var fieldPath = acceptAndYield(argumentExpression, FIELD_PATH);
+        if (fieldPath.contains(".")) {
+            throw new FeatureNotSupportedException("Aggregating the fields of joined tables is not supported");
+        }
+        AstExpression expression = new AstFieldPathExpression(fieldPath);
+        if (operator == SUM || operator == AVG) {
+            // the type of the result may differ from that of the argument, for example, the sum of integers is long
+            var conversionOperator = getConversionOperator(aggregateFunction);
+            if (conversionOperator != null) {
+                expression = new AstConversionExpression(conversionOperator, expression);
+            }
+        }
+        return new AstAccumulator(format("%s(%s)", functionName, fieldPath), operator, expression);
     }
 
     @Override
@@ -927,7 +1442,20 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
     @Override
     public void visitInListPredicate(InListPredicate inListPredicate) {
-        throw new FeatureNotSupportedException();
+        var testExpression = inListPredicate.getTestExpression();
+        if (!isFieldPathExpression(testExpression)) {
+            throw new FeatureNotSupportedException("Only fields are supported as the tested expression of IN");
+        }
+        var fieldPath = acceptAndYield(testExpression, FIELD_PATH);
+        var values = new ArrayList<AstValue>(inListPredicate.getListExpressions().size());
+        for (var listExpression : inListPredicate.getListExpressions()) {
+            if (!isValueExpression(listExpression)) {
+                throw new FeatureNotSupportedException("Only literals and parameters are supported in the list of IN");
+            }
+            values.add(acceptAndYield(listExpression, VALUE));
+        }
+        var operation = new AstInFilterOperation(inListPredicate.isNegated() ? NIN : IN, values);
+        astVisitorValueHolder.yield(FILTER, new AstFieldOperationFilter(fieldPath, operation));
     }
 
     @Override
@@ -937,7 +1465,14 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
     @Override
     public void visitInArrayPredicate(InArrayPredicate inArrayPredicate) {
-        throw new FeatureNotSupportedException();
+        var testExpression = inArrayPredicate.getTestExpression();
+        if (!isFieldPathExpression(testExpression)) {
+            throw new FeatureNotSupportedException("Only fields are supported as the tested expression of IN");
+        }
+        var fieldPath = acceptAndYield(testExpression, FIELD_PATH);
+        var array = acceptAndYield(inArrayPredicate.getArrayParameter(), VALUE);
+        var filter = new AstFieldOperationFilter(fieldPath, new AstInArrayFilterOperation(array));
+        astVisitorValueHolder.yield(FILTER, filter);
     }
 
     @Override
@@ -947,7 +1482,57 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
     @Override
     public void visitLikePredicate(LikePredicate likePredicate) {
-        throw new FeatureNotSupportedException();
+        var matchExpression = likePredicate.getMatchExpression();
+        if (!isFieldPathExpression(matchExpression)) {
+            throw new FeatureNotSupportedException("Only fields are supported as the match expression of LIKE");
+        }
+        var fieldPath = acceptAndYield(matchExpression, FIELD_PATH);
+        var escapeCharacter = getLikeEscapeCharacter(likePredicate.getEscapeCharacter());
+        var pattern = likePredicate.getPattern();
+        if (pattern instanceof SqmParameterInterpretation sqmParameterInterpretation) {
+            pattern = sqmParameterInterpretation.getResolvedExpression();
+        }
+        AstValue regex;
+        if (pattern instanceof Literal literal && literal.getLiteralValue() instanceof String literalPattern) {
+            regex = new AstLiteralValue(new BsonString(LikePatterns.toRegex(literalPattern, escapeCharacter)));
+        } else if (pattern instanceof JdbcParameter jdbcParameter) {
+            // the pattern is converted to a regular expression when the parameter is bound
+            parameterBinders.add((statement, startPosition, jdbcParameterBindings, executionContext) -> {
+                var binding = assertNotNull(jdbcParameterBindings.getBinding(jdbcParameter));
+                if (!(binding.getBindValue() instanceof String parameterPattern)) {
+                    throw new FeatureNotSupportedException(
+                            "TODO-HIBERNATE-74 https://jira.mongodb.org/browse/HIBERNATE-74");
+                }
+                statement.setString(startPosition, LikePatterns.toRegex(parameterPattern, escapeCharacter));
+            });
+            regex = AstParameterMarker.INSTANCE;
+        } else {
+            throw new FeatureNotSupportedException(
+                    "Only string literals and parameters are supported as LIKE patterns");
+        }
+        // `.` matches line terminators in SQL, and the `s` option does not prevent bounded index scans
+        var options = likePredicate.isCaseSensitive() ? "s" : "si";
+        AstFilter filter = new AstFieldOperationFilter(fieldPath, new AstRegexFilterOperation(regex, options));
+        if (likePredicate.isNegated()) {
+            filter = new AstLogicalFilter(NOR, List.of(filter));
+        }
+        astVisitorValueHolder.yield(FILTER, filter);
+    }
+
+    private static @Nullable Character getLikeEscapeCharacter(@Nullable Expression escapeCharacter) {
+        if (escapeCharacter == null) {
+            return null;
+        }
+        if (escapeCharacter instanceof Literal literal) {
+            var value = literal.getLiteralValue();
+            if (value instanceof Character character) {
+                return character;
+            } else if (value instanceof String string && string.length() == 1) {
+                return string.charAt(0);
+            }
+        }
+        throw new FeatureNotSupportedException(
+                "Only single character literals are supported as LIKE escape characters");
     }
 
     @Override
@@ -992,7 +1577,22 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
 
     @Override
     public void visitOptionalTableUpdate(OptionalTableUpdate optionalTableUpdate) {
-        throw new FeatureNotSupportedException();
+        if (optionalTableUpdate.getNumberOfOptimisticLockBindings() > 0) {
+            // a document with a stale version would not match, and inserting a new one would fail on the duplicate key
+            throw new FeatureNotSupportedException("Upserting versioned data is not supported");
+        }
+        var keyFilter = getKeyFilter(optionalTableUpdate);
+        var updates = createFieldUpdates(optionalTableUpdate.getValueBindings());
+        astVisitorValueHolder.yield(
+                MODEL_MUTATION_RESULT,
+                ModelMutationMqlTranslator.Result.create(
+                        new AstUpdateCommand(
+                                optionalTableUpdate.getMutatingTable().getTableName(),
+                                keyFilter,
+                                new AstSetUpdate(updates),
+                                false,
+                                true),
+                        parameterBinders));
     }
 
     @Override
@@ -1000,27 +1600,29 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
         throw new FeatureNotSupportedException();
     }
 
-    static String renderMongoAstNode(AstNode rootAstNode) {
-        try (var stringWriter = new StringWriter();
-                var jsonWriter = new JsonWriter(stringWriter, EXTENDED_JSON_WRITER_SETTINGS)) {
-            rootAstNode.render(jsonWriter);
-            jsonWriter.flush();
-            return stringWriter.toString();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+    /**
+     * Renders {@code command}, and {@linkplain MqlCommandTemplates#register(RawBsonDocument) registers} the result, so
+     * that preparing a statement does not require parsing the MQL.
+     *
+     * @return The MQL of {@code command}.
+     */
+    String renderMql(AstCommand command) {
+        return mqlCommandTemplates.register(renderMongoAstNode(command));
+    }
+
+    static RawBsonDocument renderMongoAstNode(AstNode rootAstNode) {
+        try (var outputBuffer = new BasicOutputBuffer();
+                var bsonWriter = new BsonBinaryWriter(outputBuffer)) {
+            rootAstNode.render(bsonWriter);
+            bsonWriter.flush();
+            return new RawBsonDocument(outputBuffer.toByteArray());
         }
     }
 
     private static void checkQueryOptionsSupportability(QueryOptions queryOptions) {
-        if (queryOptions.getTimeout() != null) {
-            throw new FeatureNotSupportedException("'timeout' inQueryOptions is not supported");
-        }
         if (queryOptions.getFlushMode() != null) {
             throw new FeatureNotSupportedException("'flushMode' in QueryOptions is not supported");
         }
-        if (Boolean.TRUE.equals(queryOptions.isReadOnly())) {
-            throw new FeatureNotSupportedException("'readOnly' in QueryOptions is not supported");
-        }
         if (queryOptions.getAppliedGraph() != null
                 && queryOptions.getAppliedGraph().getGraph() != null) {
             throw new FeatureNotSupportedException("'appliedGraph' in QueryOptions is not supported");
@@ -1050,9 +1652,6 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
                 && !queryOptions.getDatabaseHints().isEmpty()) {
             throw new FeatureNotSupportedException("'databaseHints' in QueryOptions is not supported");
         }
-        if (queryOptions.getFetchSize() != null) {
-            throw new FeatureNotSupportedException("TODO-HIBERNATE-54 https://jira.mongodb.org/browse/HIBERNATE-54");
-        }
     }
 
     private static AstComparisonFilterOperator getAstComparisonFilterOperator(ComparisonOperator operator) {
@@ -1067,10 +1666,23 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
         };
     }
 
+    /** {@link AggregateFunctionExpression}s are translated to field paths only within a query with GROUP BY. */
     private static boolean isFieldPathExpression(Expression expression) {
         return expression instanceof ColumnReference
                 || expression instanceof BasicValuedPathInterpretation
-                || expression instanceof SqlSelectionExpression;
+                || expression instanceof SqlSelectionExpression
+                || expression instanceof AggregateFunctionExpression;
+    }
+
+    private static @Nullable AstConversionOperator getConversionOperator(Expression expression) {
+        var jdbcType = expression.getExpressionType().getSingleJdbcMapping().getJdbcType();
+        return switch (jdbcType.getJdbcTypeCode()) {
+            case Types.INTEGER -> TO_INT;
+            case Types.BIGINT -> TO_LONG;
+            case Types.DOUBLE -> TO_DOUBLE;
+            case Types.DECIMAL, Types.NUMERIC -> TO_DECIMAL;
+            default -> null;
+        };
     }
 
     private static boolean isValueExpression(Expression expression) {
@@ -1107,7 +1719,12 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
             throw new FeatureNotSupportedException("Returning columns from mutation statements is not supported");
         }
         if (mutationStatement instanceof AbstractUpdateOrDeleteStatement updateOrDeleteStatement) {
-            checkFromClauseSupportability(updateOrDeleteStatement.getFromClause());
+            var fromClause = updateOrDeleteStatement.getFromClause();
+            checkFromClauseSupportability(fromClause);
+            if (fromClause.getRoots().get(0).hasRealJoins()) {
+                throw new FeatureNotSupportedException(
+                        "TODO-HIBERNATE-65 https://jira.mongodb.org/browse/HIBERNATE-65");
+            }
         }
     }
 
@@ -1116,15 +1733,77 @@ abstract class AbstractMqlTranslator<T extends JdbcOperation> implements SqlAstT
             throw new FeatureNotSupportedException("Only single root from clause is supported");
         }
         var root = fromClause.getRoots().get(0);
-        if (root.hasRealJoins()) {
-            throw new FeatureNotSupportedException("TODO-HIBERNATE-65 https://jira.mongodb.org/browse/HIBERNATE-65");
-        }
         if (!(root.getModelPart() instanceof EntityPersister entityPersister)
                 || entityPersister.getQuerySpaces().length != 1) {
             throw new FeatureNotSupportedException("Only single table from clause is supported");
         }
     }
 
+    private static final class Grouping {
+        private final List<String> keyFieldPaths;
+
+        /** Keyed by {@link AstAccumulator#field()}. */
+        private final Map<String, AstAccumulator> accumulators;
+
+        Grouping(List<String> keyFieldPaths) {
+            this.keyFieldPaths = keyFieldPaths;
+            accumulators = new LinkedHashMap<>();
+        }
+
+        void addAccumulator(AstAccumulator accumulator) {
+            accumulators.putIfAbsent(accumulator.field(), accumulator);
+            if (accumulator.operator() == SUM) {
+                var nonNullCount = new AstAccumulator(
+                        getNonNullCountField(accumulator), COUNT, assertNotNull(accumulator.expression()));
+                accumulators.putIfAbsent(nonNullCount.field(), nonNullCount);
+            }
+        }
+
+        /**
+         * Creates the {@link AstGroupStage}, followed by the {@link AstSetStage} that replaces the {@code $sum} of a
+         * group without non-{@code null} values, which is 0, with {@code null}, as the SQL {@code SUM} produces.
+         */
+        List<AstStage> createStages() {
+            var stages = new ArrayList<AstStage>(2);
+            stages.add(createGroupStage());
+            var sumUpdates = new ArrayList<AstComputedFieldUpdate>();
+            for (var accumulator : accumulators.values()) {
+                if (accumulator.operator() == SUM) {
+                    sumUpdates.add(new AstComputedFieldUpdate(
+                            accumulator.field(),
+                            new AstConditionalExpression(
+                                    new AstFieldPathExpression(getNonNullCountField(accumulator)),
+                                    new AstFieldPathExpression(accumulator.field()),
+                                    new AstLiteralExpression(new AstLiteralValue(BsonNull.VALUE)))));
+                }
+            }
+            if (!sumUpdates.isEmpty()) {
+                stages.add(new AstSetStage(sumUpdates));
+            }
+            return stages;
+        }
+
+        /**
+         * The fields of the group key are not only in the {@code _id} field of the documents produced by the
+         * {@link AstGroupStage}, but also in the fields with the same names, so that they can be projected.
+         */
+        private AstGroupStage createGroupStage() {
+            var allAccumulators = new ArrayList<AstAccumulator>(keyFieldPaths.size() + accumulators.size());
+            for (var keyFieldPath : keyFieldPaths) {
+                if (!keyFieldPath.equals(ID_FIELD_NAME)) {
+                    allAccumulators.add(
+                            new AstAccumulator(keyFieldPath, FIRST, new AstFieldPathExpression(keyFieldPath)));
+                }
+            }
+            allAccumulators.addAll(accumulators.values());
+            return new AstGroupStage(keyFieldPaths, allAccumulators);
+        }
+
+        private static String getNonNullCountField(AstAccumulator sumAccumulator) {
+            return format("count(%s)", sumAccumulator.field());
+        }
+    }
+
     private static final class OffsetJdbcParameter extends AbstractJdbcParameter {
 
         OffsetJdbcParameter(BasicType<Integer> type) {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate;
+
+import static java.lang.String.format;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Converts the patterns of the SQL {@code LIKE} predicate to regular expressions. A pattern not starting with
+ * {@code %} is converted to a regular expression starting with {@code ^} followed by the literal prefix, which allows
+ * MongoDB to answer it with a bounded scan of an index on the field.
+ */
+final class LikePatterns {
+    private static final String ANY_CHARACTERS = ".*";
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+
+    private LikePatterns() {}
+
+    /**
+     * @param escapeCharacter The character making the next character of {@code pattern} match itself, even if it is
+     *     {@code %}, {@code _} or the escape character.
+     */
+    static String toRegex(String pattern, @Nullable Character escapeCharacter) {
+        var body = new StringBuilder(pattern.length() + 8);
+        var escaped = false;
+        for (var i = 0; i < pattern.length(); i++) {
+            var c = pattern.charAt(i);
+            if (escaped) {
+                appendLiteral(body, c);
+                escaped = false;
+            } else if (escapeCharacter != null && c == escapeCharacter) {
+                escaped = true;
+            } else if (c == '%') {
+                body.append(ANY_CHARACTERS);
+            } else if (c == '_') {
+                body.append('.');
+            } else {
+                appendLiteral(body, c);
+            }
+        }
+        if (escaped) {
+            throw new FeatureNotSupportedException(
+                    format("LIKE pattern [%s] ending with the escape character is not supported", pattern));
+        }
+        // an unescaped `.*` can only come from `%`, because the literal `*` is always escaped
+        var regex = body.toString();
+        var end = regex.length();
+        while (end >= ANY_CHARACTERS.length() && regex.startsWith(ANY_CHARACTERS, end - ANY_CHARACTERS.length())) {
+            end -= ANY_CHARACTERS.length();
+        }
+        var start = 0;
+        while (start < end && regex.startsWith(ANY_CHARACTERS, start)) {
+            start += ANY_CHARACTERS.length();
+        }
+        return (start == 0 ? "^" : "") + regex.substring(start, end) + (end == regex.length() ? "\\z" : "");
+    }
+
+    private static void appendLiteral(StringBuilder regex, char c) {
+        if (REGEX_METACHARACTERS.indexOf(c) >= 0) {
+            regex.append('\\');
+        }
+        regex.append(c);
+    }
+}
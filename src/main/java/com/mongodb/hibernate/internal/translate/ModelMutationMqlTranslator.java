@@ -23,13 +23,16 @@ import static java.util.Collections.emptyList;
 
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstCommand;
 import java.util.List;
+import java.util.function.Function;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.exec.spi.JdbcParameterBinder;
 import org.hibernate.sql.exec.spi.JdbcParameterBindings;
 import org.hibernate.sql.model.ast.TableMutation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.internal.TableUpdateNoSet;
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+import org.hibernate.sql.model.jdbc.MergeOperation;
 import org.jspecify.annotations.Nullable;
 
 final class ModelMutationMqlTranslator<O extends JdbcMutationOperation> extends AbstractMqlTranslator<O> {
@@ -52,7 +55,7 @@ final class ModelMutationMqlTranslator<O extends JdbcMutationOperation> extends
         } else {
             result = acceptAndYield(tableMutation, MODEL_MUTATION_RESULT);
         }
-        return result.createJdbcMutationOperation(tableMutation);
+        return result.createJdbcMutationOperation(tableMutation, this::renderMql);
     }
 
     static final class Result {
@@ -73,9 +76,19 @@ final class ModelMutationMqlTranslator<O extends JdbcMutationOperation> extends
             return new Result(null, emptyList());
         }
 
-        private <O extends JdbcMutationOperation> O createJdbcMutationOperation(TableMutation<O> tableMutation) {
-            var mql = command == null ? "" : renderMongoAstNode(command);
+        private <O extends JdbcMutationOperation> O createJdbcMutationOperation(
+                TableMutation<O> tableMutation, Function<AstCommand, String> mqlRenderer) {
+            var mql = command == null ? "" : mqlRenderer.apply(command);
             return tableMutation.createMutationOperation(mql, parameterBinders);
         }
+
+        MergeOperation createMergeOperation(
+                OptionalTableUpdate optionalTableUpdate, Function<AstCommand, String> mqlRenderer) {
+            return new MergeOperation(
+                    optionalTableUpdate.getMutatingTable().getTableMapping(),
+                    optionalTableUpdate.getMutationTarget(),
+                    mqlRenderer.apply(assertNotNull(command)),
+                    parameterBinders);
+        }
     }
 }
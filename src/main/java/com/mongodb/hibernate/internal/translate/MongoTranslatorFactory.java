@@ -24,7 +24,9 @@ import org.hibernate.sql.ast.tree.select.SelectStatement;
 import org.hibernate.sql.exec.spi.JdbcOperationQueryMutation;
 import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
 import org.hibernate.sql.model.ast.TableMutation;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
 import org.hibernate.sql.model.jdbc.JdbcMutationOperation;
+import org.hibernate.sql.model.jdbc.MergeOperation;
 
 public final class MongoTranslatorFactory implements SqlAstTranslatorFactory {
     @Override
@@ -44,4 +46,12 @@ public final class MongoTranslatorFactory implements SqlAstTranslatorFactory {
             TableMutation<O> tableMutation, SessionFactoryImplementor sessionFactoryImplementor) {
         return new ModelMutationMqlTranslator<>(tableMutation, sessionFactoryImplementor);
     }
+
+    /**
+     * Builds a translator of {@code optionalTableUpdate} to a single {@code update} command with {@code upsert: true}.
+     */
+    public SqlAstTranslator<MergeOperation> buildOptionalTableUpdateTranslator(
+            OptionalTableUpdate optionalTableUpdate, SessionFactoryImplementor sessionFactoryImplementor) {
+        return new OptionalTableUpdateMqlTranslator(optionalTableUpdate, sessionFactoryImplementor);
+    }
 }
@@ -28,6 +28,7 @@ import com.mongodb.hibernate.internal.translate.mongoast.command.AstInsertComman
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstUpdateCommand;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.tree.MutationStatement;
@@ -57,7 +58,7 @@ final class MutationMqlTranslator extends AbstractMqlTranslator<JdbcOperationQue
         applyQueryOptions(queryOptions);
 
         var result = acceptAndYield(mutationStatement, MUTATION_RESULT);
-        return result.createJdbcOperationQueryMutation();
+        return result.createJdbcOperationQueryMutation(this::renderMql);
     }
 
     static final class Result {
@@ -71,8 +72,9 @@ final class MutationMqlTranslator extends AbstractMqlTranslator<JdbcOperationQue
             this.affectedTableNames = affectedTableNames;
         }
 
-        private JdbcOperationQueryMutation createJdbcOperationQueryMutation() {
-            var mql = renderMongoAstNode(command);
+        private JdbcOperationQueryMutation createJdbcOperationQueryMutation(
+                Function<AstCommand, String> mqlRenderer) {
+            var mql = mqlRenderer.apply(command);
             if (command instanceof AstInsertCommand) {
                 return new JdbcOperationQueryInsertImpl(mql, parameterBinders, affectedTableNames);
             } else if (command instanceof AstUpdateCommand) {
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNull;
+import static com.mongodb.hibernate.internal.translate.AstVisitorValueDescriptor.MODEL_MUTATION_RESULT;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.model.internal.OptionalTableUpdate;
+import org.hibernate.sql.model.jdbc.MergeOperation;
+import org.jspecify.annotations.Nullable;
+
+final class OptionalTableUpdateMqlTranslator extends AbstractMqlTranslator<MergeOperation> {
+
+    private final OptionalTableUpdate optionalTableUpdate;
+
+    OptionalTableUpdateMqlTranslator(
+            OptionalTableUpdate optionalTableUpdate, SessionFactoryImplementor sessionFactory) {
+        super(sessionFactory);
+        this.optionalTableUpdate = optionalTableUpdate;
+    }
+
+    @Override
+    public MergeOperation translate(@Nullable JdbcParameterBindings jdbcParameterBindings, QueryOptions queryOptions) {
+        assertNull(jdbcParameterBindings);
+        applyQueryOptions(queryOptions);
+
+        var result = acceptAndYield(optionalTableUpdate, MODEL_MUTATION_RESULT);
+        return result.createMergeOperation(optionalTableUpdate, this::renderMql);
+    }
+}
@@ -25,6 +25,7 @@ import static org.hibernate.sql.exec.spi.JdbcLockStrategy.NONE;
 import com.mongodb.hibernate.internal.translate.mongoast.command.AstCommand;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.sql.ast.tree.Statement;
@@ -54,7 +55,7 @@ final class SelectMqlTranslator extends AbstractMqlTranslator<JdbcOperationQuery
         applyQueryOptions(queryOptions);
 
         var result = acceptAndYield((Statement) selectStatement, SELECT_RESULT);
-        return result.createJdbcOperationQuerySelect(selectStatement, getSessionFactory());
+        return result.createJdbcOperationQuerySelect(selectStatement, getSessionFactory(), this::renderMql);
     }
 
     static final class Result {
@@ -78,13 +79,15 @@ final class SelectMqlTranslator extends AbstractMqlTranslator<JdbcOperationQuery
         }
 
         private JdbcOperationQuerySelect createJdbcOperationQuerySelect(
-                SelectStatement selectStatement, SessionFactoryImplementor sessionFactory) {
+                SelectStatement selectStatement,
+                SessionFactoryImplementor sessionFactory,
+                Function<AstCommand, String> mqlRenderer) {
             var jdbcValuesMappingProducerProvider =
                     sessionFactory.getServiceRegistry().requireService(JdbcValuesMappingProducerProvider.class);
             var jdbcValuesMappingProducer =
                     jdbcValuesMappingProducerProvider.buildMappingProducer(selectStatement, sessionFactory);
             return new JdbcOperationQuerySelect(
-                    renderMongoAstNode(command),
+                    mqlRenderer.apply(command),
                     parameterBinders,
                     jdbcValuesMappingProducer,
                     affectedTableNames,
@@ -19,7 +19,8 @@ package com.mongodb.hibernate.internal.translate.mongoast.command;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
 import org.bson.BsonWriter;
 
-public record AstDeleteCommand(String collection, AstFilter filter) implements AstCommand {
+/** @param multi Whether to delete all the documents matching {@code filter}, or at most one. */
+public record AstDeleteCommand(String collection, AstFilter filter, boolean multi) implements AstCommand {
     @Override
     public void render(BsonWriter writer) {
         writer.writeStartDocument();
@@ -32,7 +33,7 @@ public record AstDeleteCommand(String collection, AstFilter filter) implements A
                 {
                     writer.writeName("q");
                     filter.render(writer);
-                    writer.writeInt32("limit", 0);
+                    writer.writeInt32("limit", multi ? 0 : 1);
                 }
                 writer.writeEndDocument();
             }
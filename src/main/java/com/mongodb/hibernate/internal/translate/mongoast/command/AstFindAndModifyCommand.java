@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertFalse;
+
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageSpecification;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
+import java.util.List;
+import org.bson.BsonWriter;
+
+/**
+ * Updates at most one document, and returns the fields {@code projection} specifies of the updated document, which
+ * includes the values the {@code update} computed.
+ *
+ * @param upsert Whether to insert a document if no document matches {@code filter}. The inserted document has the
+ *     fields the {@code filter} compares for equality, with the {@code update} applied.
+ */
+public record AstFindAndModifyCommand(
+        String collection,
+        AstFilter filter,
+        AstUpdate update,
+        boolean upsert,
+        List<? extends AstProjectStageSpecification> projection)
+        implements AstCommand {
+
+    public AstFindAndModifyCommand {
+        assertFalse(projection.isEmpty());
+    }
+
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeString("findAndModify", collection);
+            writer.writeName("query");
+            filter.render(writer);
+            writer.writeName("update");
+            update.render(writer);
+            writer.writeBoolean("new", true);
+            if (upsert) {
+                writer.writeBoolean("upsert", true);
+            }
+            writer.writeName("fields");
+            writer.writeStartDocument();
+            {
+                projection.forEach(specification -> specification.render(writer));
+            }
+            writer.writeEndDocument();
+        }
+        writer.writeEndDocument();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import java.util.List;
+import org.bson.BsonWriter;
+
+/**
+ * An update with an aggregation pipeline consisting of a single {@code $set} stage, which, unlike {@link AstSetUpdate},
+ * may compute the new values of fields from the current values of fields of the same document.
+ */
+public record AstPipelineUpdate(List<? extends AstComputedFieldUpdate> fieldUpdates) implements AstUpdate {
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartArray();
+        {
+            writer.writeStartDocument();
+            {
+                writer.writeName("$set");
+                writer.writeStartDocument();
+                {
+                    fieldUpdates.forEach(update -> update.render(writer));
+                }
+                writer.writeEndDocument();
+            }
+            writer.writeEndDocument();
+        }
+        writer.writeEndArray();
+    }
+}
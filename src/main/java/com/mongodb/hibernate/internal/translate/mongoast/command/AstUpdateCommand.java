@@ -16,12 +16,15 @@
 
 package com.mongodb.hibernate.internal.translate.mongoast.command;
 
-import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFilter;
-import java.util.List;
 import org.bson.BsonWriter;
 
-public record AstUpdateCommand(String collection, AstFilter filter, List<? extends AstFieldUpdate> updates)
+/**
+ * @param multi Whether to update all the documents matching {@code filter}, or at most one.
+ * @param upsert Whether to insert a document if no document matches {@code filter}. The inserted document has the
+ *     fields the {@code filter} compares for equality, with the {@code update} applied.
+ */
+public record AstUpdateCommand(String collection, AstFilter filter, AstUpdate update, boolean multi, boolean upsert)
         implements AstCommand {
     @Override
     public void render(BsonWriter writer) {
@@ -36,17 +39,11 @@ public record AstUpdateCommand(String collection, AstFilter filter, List<? exten
                     writer.writeName("q");
                     filter.render(writer);
                     writer.writeName("u");
-                    writer.writeStartDocument();
-                    {
-                        writer.writeName("$set");
-                        writer.writeStartDocument();
-                        {
-                            updates.forEach(update -> update.render(writer));
-                        }
-                        writer.writeEndDocument();
+                    update.render(writer);
+                    writer.writeBoolean("multi", multi);
+                    if (upsert) {
+                        writer.writeBoolean("upsert", true);
                     }
-                    writer.writeEndDocument();
-                    writer.writeBoolean("multi", true);
                 }
                 writer.writeEndDocument();
             }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertFalse;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
+import java.util.List;
+import org.bson.BsonWriter;
+
+/**
+ * @param fieldUpdates The fields set both in a matched document and in an inserted one.
+ * @param insertOnlyFieldUpdates The fields set only in an inserted document.
+ */
+public record AstUpsertUpdate(
+        List<? extends AstFieldUpdate> fieldUpdates, List<? extends AstFieldUpdate> insertOnlyFieldUpdates)
+        implements AstUpdate {
+
+    public AstUpsertUpdate {
+        assertFalse(fieldUpdates.isEmpty());
+    }
+
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeName("$set");
+            writer.writeStartDocument();
+            {
+                fieldUpdates.forEach(update -> update.render(writer));
+            }
+            writer.writeEndDocument();
+            if (!insertOnlyFieldUpdates.isEmpty()) {
+                writer.writeName("$setOnInsert");
+                writer.writeStartDocument();
+                {
+                    insertOnlyFieldUpdates.forEach(update -> update.render(writer));
+                }
+                writer.writeEndDocument();
+            }
+        }
+        writer.writeEndDocument();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
+import static com.mongodb.hibernate.internal.MongoAssertions.assertTrue;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.COUNT;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstNode;
+import org.bson.BsonWriter;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A field of the documents produced by {@link AstGroupStage}.
+ *
+ * @param expression {@link AstAccumulatorOperator#COUNT} counts the documents for which {@code expression} is neither
+ *     {@code null}, nor missing, or all the documents if {@code expression} is {@code null}. Must not be {@code null}
+ *     for other operators.
+ */
+public record AstAccumulator(String field, AstAccumulatorOperator operator, @Nullable AstExpression expression)
+        implements AstNode {
+
+    public AstAccumulator {
+        assertTrue(operator == COUNT || expression != null);
+    }
+
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeName(field);
+        writer.writeStartDocument();
+        {
+            writer.writeName(operator.getOperatorName());
+            if (operator != COUNT) {
+                assertNotNull(expression).render(writer);
+            } else if (expression == null) {
+                writer.writeInt64(1);
+            } else {
+                renderCountIncrement(writer, expression);
+            }
+        }
+        writer.writeEndDocument();
+    }
+
+    /** Renders {@code {$cond: [{$gt: [expression, null]}, 1, 0]}}, as {@code null} is less than any other value. */
+    private static void renderCountIncrement(BsonWriter writer, AstExpression expression) {
+        writer.writeStartDocument();
+        {
+            writer.writeStartArray("$cond");
+            {
+                writer.writeStartDocument();
+                {
+                    writer.writeStartArray("$gt");
+                    {
+                        expression.render(writer);
+                        writer.writeNull();
+                    }
+                    writer.writeEndArray();
+                }
+                writer.writeEndDocument();
+                writer.writeInt64(1);
+                writer.writeInt64(0);
+            }
+            writer.writeEndArray();
+        }
+        writer.writeEndDocument();
+    }
+}
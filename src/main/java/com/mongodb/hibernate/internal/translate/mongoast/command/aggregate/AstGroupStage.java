@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
+
+import java.util.List;
+import org.bson.BsonWriter;
+
+/**
+ * @param keyFieldPaths The group key is {@code null} if there are no fields, the value of the field if there is one,
+ *     and a document with the values of the fields otherwise.
+ */
+public record AstGroupStage(List<String> keyFieldPaths, List<? extends AstAccumulator> accumulators)
+        implements AstStage {
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeName("$group");
+            writer.writeStartDocument();
+            {
+                writer.writeName(ID_FIELD_NAME);
+                renderKey(writer);
+                accumulators.forEach(accumulator -> accumulator.render(writer));
+            }
+            writer.writeEndDocument();
+        }
+        writer.writeEndDocument();
+    }
+
+    private void renderKey(BsonWriter writer) {
+        if (keyFieldPaths.isEmpty()) {
+            writer.writeNull();
+        } else if (keyFieldPaths.size() == 1) {
+            new AstFieldPathExpression(keyFieldPaths.get(0)).render(writer);
+        } else {
+            writer.writeStartDocument();
+            {
+                keyFieldPaths.forEach(keyFieldPath -> {
+                    writer.writeName(keyFieldPath);
+                    new AstFieldPathExpression(keyFieldPath).render(writer);
+                });
+            }
+            writer.writeEndDocument();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import org.bson.BsonWriter;
+
+/**
+ * Adds to each input document an array field {@code as} with the documents from the {@code from} collection whose
+ * {@code foreignField} is equal to the {@code localField} of the input document.
+ */
+public record AstLookupStage(String from, String localField, String foreignField, String as) implements AstStage {
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeName("$lookup");
+            writer.writeStartDocument();
+            {
+                writer.writeString("from", from);
+                writer.writeString("localField", localField);
+                writer.writeString("foreignField", foreignField);
+                writer.writeString("as", as);
+            }
+            writer.writeEndDocument();
+        }
+        writer.writeEndDocument();
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import org.bson.BsonWriter;
+
+/** Evaluates to the value of the variable {@code name}, for example, of a system variable. */
+public record AstVariableExpression(String name) implements AstExpression {
+
+    /** The current date and time, which is the same for all the documents an operation writes. */
+    public static final AstVariableExpression NOW = new AstVariableExpression("NOW");
+
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeString("$$" + name);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.filter;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstValue;
+import org.bson.BsonWriter;
+
+/**
+ * @param pattern The regular expression.
+ * @param options The <a href="https://www.mongodb.com/docs/manual/reference/operator/query/regex/#options">options</a>
+ *     of the regular expression, not rendered if empty.
+ */
+public record AstRegexFilterOperation(AstValue pattern, String options) implements AstFilterOperation {
+    @Override
+    public void render(BsonWriter writer) {
+        writer.writeStartDocument();
+        {
+            writer.writeName("$regex");
+            pattern.render(writer);
+            if (!options.isEmpty()) {
+                writer.writeString("$options", options);
+            }
+        }
+        writer.writeEndDocument();
+    }
+}
@@ -29,10 +29,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import org.bson.BsonArray;
 import org.bson.BsonBinary;
 import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
 import org.bson.BsonDecimal128;
 import org.bson.BsonDocument;
 import org.bson.BsonDouble;
@@ -293,6 +295,14 @@ public final class ValueConversions {
         return value.getValue();
     }
 
+    public static Timestamp toTimestampDomainValue(BsonValue value) {
+        return toDomainValue(value.asDateTime());
+    }
+
+    private static Timestamp toDomainValue(BsonDateTime value) {
+        return new Timestamp(value.getValue());
+    }
+
     public static MongoArray toArrayDomainValue(BsonValue value) throws SQLFeatureNotSupportedException {
         return new MongoArray(toDomainValue(value.asArray(), Object.class));
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Starts and closes the {@link ClientSession}s of {@link java.sql.Connection}s, and counts them.
+ *
+ * <p>{@link ClientSession}s are not reused: the driver checks the
+ * {@linkplain ClientSession#getServerSession() server session} of a {@link ClientSession} out of its own pool of server
+ * sessions only when it is first needed, and returns it to that pool when the {@link ClientSession} is closed, so
+ * starting a {@link ClientSession} does not create a server session, and does not run any command. Besides, a reused
+ * {@link ClientSession} would carry over the causal consistency state, such as the operation time, of the
+ * {@link java.sql.Connection} that used it before. A {@link java.sql.Connection} uses the server session of its
+ * {@link ClientSession} only for transactions, see {@link MongoStatement}.
+ */
+final class ClientSessionFactory implements MongoSessionStatistics {
+
+    private final MongoClient mongoClient;
+    private final AtomicLong startCount;
+    private final AtomicLong closeCount;
+
+    ClientSessionFactory(MongoClient mongoClient) {
+        this.mongoClient = mongoClient;
+        startCount = new AtomicLong();
+        closeCount = new AtomicLong();
+    }
+
+    ClientSession startSession() {
+        var clientSession = mongoClient.startSession();
+        startCount.incrementAndGet();
+        return clientSession;
+    }
+
+    void closeSession(ClientSession clientSession) {
+        clientSession.close();
+        closeCount.incrementAndGet();
+    }
+
+    @Override
+    public long getStartCount() {
+        return startCount.get();
+    }
+
+    @Override
+    public long getCloseCount() {
+        return closeCount.get();
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import com.mongodb.hibernate.internal.Sealed;
+
+/**
+ * The statistics of the bounded cache of MQL command templates, which allows
+ * {@linkplain java.sql.Connection#prepareStatement(String) preparing} statements without parsing their MQL. They are
+ * available via {@link MongoConnectionProvider#unwrap(Class)}:
+ *
+ * <pre>{@code
+ * var statistics = sessionFactory.getServiceRegistry()
+ *         .requireService(ConnectionProvider.class)
+ *         .unwrap(MongoCommandTemplateCacheStatistics.class);
+ * }</pre>
+ */
+@Sealed
+public interface MongoCommandTemplateCacheStatistics {
+    /**
+     * Gets the number of times a statement was prepared with a cached template.
+     *
+     * @return The number of hits.
+     */
+    long getHitCount();
+
+    /**
+     * Gets the number of times a statement was prepared by parsing its MQL because there was no cached template.
+     *
+     * @return The number of misses.
+     */
+    long getMissCount();
+
+    /**
+     * Gets the number of templates evicted from the cache to keep their number bounded.
+     *
+     * @return The number of evictions.
+     */
+    long getEvictionCount();
+}
@@ -19,11 +19,16 @@ package com.mongodb.hibernate.jdbc;
 import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
 import static java.lang.String.format;
 
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerCursor;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.hibernate.internal.BuildConfig;
-import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
+import com.mongodb.hibernate.internal.extension.service.StandardServiceRegistryScopedState;
+import com.mongodb.hibernate.internal.extension.service.TransactionRetrier;
+import com.mongodb.hibernate.internal.mql.MqlCommandTemplates;
+import com.mongodb.hibernate.jdbc.ServerVersionCache.ServerVersion;
 import java.sql.Array;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
@@ -32,26 +37,106 @@ import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.io.BasicOutputBuffer;
 import org.jspecify.annotations.Nullable;
 
 final class MongoConnection implements ConnectionAdapter {
 
+    private final MqlCommandTemplates mqlCommandTemplates;
+    private final TransactionRetrier transactionRetrier;
     private final MongoClient mongoClient;
+    private final ClientSessionFactory clientSessionFactory;
+    private final ServerVersionCache serverVersionCache;
+    /** Must be used only while holding its monitor, see {@link PrefetchingMongoCursor}. */
     private final ClientSession clientSession;
     private final MongoDatabase mongoDatabase;
+    private final BasicOutputBuffer commandBuffer;
+    private final int cursorPrefetchBatches;
+    private final ExecutorService cursorPrefetchExecutor;
+    private final boolean transactionStartOnFirstWrite;
+    private final ReadPreference readOnlyReadPreference;
+    /** The {@link Statement}s that are not closed, closed when this {@link java.sql.Connection} is closed. */
+    private final Set<MongoStatement> openStatements;
     private boolean closed;
+    private boolean readOnly;
 
     private boolean autoCommit;
 
-    MongoConnection(MongoConfiguration config, MongoClient mongoClient, ClientSession clientSession) {
+    MongoConnection(
+            StandardServiceRegistryScopedState standardServiceRegistryScopedState,
+            MongoClient mongoClient,
+            ClientSessionFactory clientSessionFactory,
+            ServerVersionCache serverVersionCache,
+            ExecutorService cursorPrefetchExecutor,
+            ClientSession clientSession) {
+        var config = standardServiceRegistryScopedState.getConfiguration();
+        mqlCommandTemplates = standardServiceRegistryScopedState.getMqlCommandTemplates();
+        transactionRetrier = standardServiceRegistryScopedState.getTransactionRetrier();
         this.mongoClient = mongoClient;
+        this.clientSessionFactory = clientSessionFactory;
+        this.serverVersionCache = serverVersionCache;
         this.clientSession = clientSession;
         mongoDatabase = mongoClient.getDatabase(config.databaseName());
+        commandBuffer = new BasicOutputBuffer();
+        cursorPrefetchBatches = config.cursorPrefetchBatches();
+        this.cursorPrefetchExecutor = cursorPrefetchExecutor;
+        transactionStartOnFirstWrite = config.transactionStartOnFirstWrite();
+        readOnlyReadPreference = config.readOnlyReadPreference();
+        openStatements = new HashSet<>();
         autoCommit = true;
     }
 
+    /** @see com.mongodb.hibernate.cfg.MongoConfigurator#cursorPrefetchBatches(int) */
+    int getCursorPrefetchBatches() {
+        return cursorPrefetchBatches;
+    }
+
+    /** The executor shared by the {@link PrefetchingMongoCursor}s of all the connections of a connection provider. */
+    ExecutorService getCursorPrefetchExecutor() {
+        return cursorPrefetchExecutor;
+    }
+
+    /** @see com.mongodb.hibernate.cfg.MongoConfigurator#transactionStartOnFirstWrite(boolean) */
+    boolean isTransactionStartOnFirstWrite() {
+        return transactionStartOnFirstWrite;
+    }
+
+    /**
+     * Returns the {@link ReadPreference} of queries, or {@code null} if the default one must be used.
+     *
+     * @see com.mongodb.hibernate.cfg.MongoConfigurator#readOnlyReadPreference(ReadPreference)
+     */
+    @Nullable ReadPreference getQueryReadPreference() {
+        return readOnly ? readOnlyReadPreference : null;
+    }
+
+    /**
+     * A read-only {@link java.sql.Connection} does not prevent writes, but its queries read as
+     * {@linkplain com.mongodb.hibernate.cfg.MongoConfigurator#readOnlyReadPreference(ReadPreference) configured}.
+     */
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        checkClosed();
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        checkClosed();
+        return readOnly;
+    }
+
     @Override
     public void setAutoCommit(boolean autoCommit) throws SQLException {
         checkClosed();
@@ -78,13 +163,15 @@ final class MongoConnection implements ConnectionAdapter {
     }
 
     private void doCommitIfNeeded() throws SQLException {
-        if (!clientSession.hasActiveTransaction()) {
-            return;
-        }
-        try {
-            clientSession.commitTransaction();
-        } catch (RuntimeException e) {
-            throw new SQLException("Failed to commit transaction", e);
+        synchronized (clientSession) {
+            if (!clientSession.hasActiveTransaction()) {
+                return;
+            }
+            try {
+                transactionRetrier.commit(clientSession);
+            } catch (RuntimeException e) {
+                throw new SQLException("Failed to commit transaction", e);
+            }
         }
     }
 
@@ -94,26 +181,63 @@ final class MongoConnection implements ConnectionAdapter {
         if (autoCommit) {
             throw new SQLException("AutoCommit state should be false when committing transaction");
         }
-        if (!clientSession.hasActiveTransaction()) {
-            return;
-        }
-        try {
-            clientSession.abortTransaction();
-        } catch (RuntimeException e) {
-            throw new SQLException("Failed to rollback transaction", e);
+        synchronized (clientSession) {
+            if (!clientSession.hasActiveTransaction()) {
+                return;
+            }
+            try {
+                clientSession.abortTransaction();
+            } catch (RuntimeException e) {
+                throw new SQLException("Failed to rollback transaction", e);
+            }
         }
     }
 
+    /**
+     * Closes the {@linkplain #openStatements open statements}, together with their {@link ResultSet}s and cursors,
+     * including the ones {@linkplain PrefetchingMongoCursor prefetching} in the background, before closing the
+     * {@link ClientSession}.
+     */
     @Override
     public void close() throws SQLException {
         if (!closed) {
             closed = true;
             try {
-                clientSession.close();
-            } catch (RuntimeException e) {
-                throw new SQLException("Error closing connection", e);
+                closeOpenStatements();
+            } finally {
+                try {
+                    synchronized (clientSession) {
+                        clientSessionFactory.closeSession(clientSession);
+                    }
+                } catch (RuntimeException e) {
+                    throw new SQLException("Error closing connection", e);
+                }
+            }
+        }
+    }
+
+    private void closeOpenStatements() throws SQLException {
+        SQLException closingException = null;
+        for (var statement : List.copyOf(openStatements)) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                if (closingException == null) {
+                    closingException = new SQLException("Error closing connection", e);
+                } else {
+                    closingException.addSuppressed(e);
+                }
             }
         }
+        openStatements.clear();
+        if (closingException != null) {
+            throw closingException;
+        }
+    }
+
+    /** Must be called by a {@link MongoStatement} created by this {@link java.sql.Connection} when it is closed. */
+    void statementClosed(MongoStatement statement) {
+        openStatements.remove(statement);
     }
 
     @Override
@@ -124,7 +248,7 @@ final class MongoConnection implements ConnectionAdapter {
     @Override
     public Statement createStatement() throws SQLException {
         checkClosed();
-        return new MongoStatement(mongoDatabase, clientSession, this);
+        return opened(new MongoStatement(mongoDatabase, clientSession, this));
     }
 
     @Override
@@ -145,7 +269,79 @@ final class MongoConnection implements ConnectionAdapter {
             throw new SQLFeatureNotSupportedException(
                     "Unsupported result set concurrency (only CONCUR_READ_ONLY is supported): " + resultSetConcurrency);
         }
-        return new MongoPreparedStatement(mongoDatabase, clientSession, this, mql);
+        return opened(new MongoPreparedStatement(
+                mongoDatabase, clientSession, this, mqlCommandTemplates.get(mql), commandBuffer));
+    }
+
+    private <T extends MongoStatement> T opened(T statement) {
+        openStatements.add(statement);
+        return statement;
+    }
+
+    /**
+     * Kills the operations in progress in the server session identified by {@code sessionIdentifier}, which is the one
+     * of {@link #clientSession}. This method is meant to be called while another thread holds the monitor of
+     * {@link #clientSession}, which is why it does not acquire the monitor, and uses neither {@link #clientSession},
+     * nor {@link #mongoDatabase}. The caller must prevent operations other than the ones it means to kill from starting
+     * in the session until this method completes.
+     *
+     * @param sessionIdentifier The {@linkplain com.mongodb.session.ServerSession#getIdentifier() identifier} captured
+     *     while holding the monitor of {@link #clientSession}.
+     * @see MongoStatement#cancel()
+     */
+    void killSessionOperations(BsonDocument sessionIdentifier) throws SQLException {
+        try {
+            var adminDatabase = mongoClient.getDatabase("admin");
+            var operations = adminDatabase.aggregate(
+                    List.of(
+                            new BsonDocument("$currentOp", new BsonDocument("idleSessions", BsonBoolean.FALSE)),
+                            new BsonDocument("$match", new BsonDocument("lsid.id", sessionIdentifier.get("id"))),
+                            new BsonDocument("$project", new BsonDocument("opid", new BsonInt32(1)))),
+                    BsonDocument.class);
+            for (var operation : operations) {
+                adminDatabase.runCommand(new BsonDocument("killOp", new BsonInt32(1))
+                        .append("op", assertNotNull(operation.get("opid"))));
+            }
+        } catch (RuntimeException e) {
+            throw new SQLException("Failed to kill operations", e);
+        }
+    }
+
+    /**
+     * Kills {@code serverCursor}, whether it is idle or a {@code getMore} is in progress. Like
+     * {@link #killSessionOperations(BsonDocument)}, this method is meant to be called while another thread holds the
+     * monitor of {@link #clientSession}.
+     *
+     * <p>The driver does not allow routing a command to a specific server, so the {@code killCursors} command is routed
+     * by {@code readPreference}, the same way the command that created the cursor was. If the cursor is on another
+     * server, which may happen if {@code readPreference} allows for more than one server, or there are multiple
+     * {@code mongos} instances, the server reports the cursor as not found, and this method fails.
+     *
+     * @param readPreference The {@link ReadPreference} used to create the cursor, {@code null} if the default one.
+     * @throws SQLException If the cursor is not found, either because it is exhausted or already killed, or because the
+     *     {@code killCursors} command was routed to a server other than {@linkplain ServerCursor#getAddress() the one}
+     *     the cursor is on.
+     * @see MongoStatement#cancel()
+     */
+    void killCursor(String collectionName, ServerCursor serverCursor, @Nullable ReadPreference readPreference)
+            throws SQLException {
+        Document commandResult;
+        try {
+            var database = mongoClient.getDatabase(mongoDatabase.getName());
+            var command = new BsonDocument("killCursors", new BsonString(collectionName))
+                    .append("cursors", new BsonArray(List.of(new BsonInt64(serverCursor.getId()))));
+            commandResult = readPreference == null
+                    ? database.runCommand(command)
+                    : database.runCommand(command, readPreference);
+        } catch (RuntimeException e) {
+            throw new SQLException("Failed to kill cursor", e);
+        }
+        if (commandResult.getList("cursorsNotFound", Long.class, List.of()).contains(serverCursor.getId())) {
+            throw new SQLException(format(
+                    "Failed to kill cursor [%d] on [%s]: it was not found, either because it is exhausted,"
+                            + " or because the server the cursor is on was not selected",
+                    serverCursor.getId(), serverCursor.getAddress()));
+        }
     }
 
     @Override
@@ -158,17 +354,13 @@ final class MongoConnection implements ConnectionAdapter {
     public DatabaseMetaData getMetaData() throws SQLException {
         checkClosed();
         try {
-            var commandResult = mongoClient
-                    .getDatabase("admin")
-                    .runCommand(clientSession, new BsonDocument("buildInfo", new BsonInt32(1)));
-            var versionText = commandResult.getString("version");
-            var versionArray = commandResult.getList("versionArray", Integer.class);
-            if (versionArray.size() < 2) {
-                throw new SQLException(
-                        format("Unexpected versionArray [%s] field length (should be 2 or more)", versionArray));
-            }
+            var serverVersion = getServerVersion();
             return new MongoDatabaseMetaData(
-                    this, versionText, versionArray.get(0), versionArray.get(1), assertNotNull(BuildConfig.VERSION));
+                    this,
+                    serverVersion.versionText(),
+                    serverVersion.major(),
+                    serverVersion.minor(),
+                    assertNotNull(BuildConfig.VERSION));
         } catch (RuntimeException e) {
             // TODO-HIBERNATE-43 Let's do `LOGGER.error(<message>, e)`.
             // Hibernate ORM neither propagates, nor logs `e` (the cause of the `SQLException` we throw),
@@ -178,6 +370,26 @@ final class MongoConnection implements ConnectionAdapter {
         }
     }
 
+    /**
+     * Gets the version from the {@link ServerVersionCache}, unless it is unknown there because the deployment is
+     * load-balanced, in which case {@code buildInfo} is run.
+     */
+    private ServerVersion getServerVersion() throws SQLException {
+        var cachedServerVersion = serverVersionCache.get();
+        if (cachedServerVersion != null) {
+            return cachedServerVersion;
+        }
+        var commandResult =
+                mongoClient.getDatabase("admin").runCommand(new BsonDocument("buildInfo", new BsonInt32(1)));
+        var versionText = commandResult.getString("version");
+        var versionArray = commandResult.getList("versionArray", Integer.class);
+        if (versionArray.size() < 2) {
+            throw new SQLException(
+                    format("Unexpected versionArray [%s] field length (should be 2 or more)", versionArray));
+        }
+        return new ServerVersion(versionText, versionArray.get(0), versionArray.get(1));
+    }
+
     @Override
     public @Nullable String getCatalog() throws SQLException {
         checkClosed();
@@ -18,7 +18,9 @@ package com.mongodb.hibernate.jdbc;
 
 import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
 import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
+import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoDriverInformation;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
@@ -32,6 +34,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serial;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
 import org.hibernate.service.UnknownUnwrapTypeException;
@@ -42,10 +45,13 @@ import org.jspecify.annotations.Nullable;
 /**
  * A {@link ConnectionProvider} for the MongoDB Hibernate Extension.
  *
- * <p>All the work done via a {@link Connection} {@linkplain MongoConnectionProvider#getConnection() obtained} from this
- * {@linkplain ConnectionProvider} is done within the same {@link ClientSession}.
- * {@linkplain ClientSession#startTransaction() MongoDB transactions} are used only if
- * {@linkplain Connection#getAutoCommit() auto-commit} is disabled.
+ * <p>{@linkplain ClientSession#startTransaction() MongoDB transactions} are used only if
+ * {@linkplain Connection#getAutoCommit() auto-commit} is disabled. All the transactions of a {@link Connection}
+ * {@linkplain MongoConnectionProvider#getConnection() obtained} from this {@linkplain ConnectionProvider} are done
+ * within the same {@link ClientSession}, the work done outside a transaction is done in implicit sessions of the
+ * driver. The statistics of the {@link ClientSession}s are available via {@link #unwrap(Class)} as
+ * {@link MongoSessionStatistics}. The statistics of the cache of MQL command templates are available the same way, as
+ * {@link MongoCommandTemplateCacheStatistics}.
  *
  * <p>This {@link ConnectionProvider} does not respect the {@value org.hibernate.cfg.AvailableSettings#AUTOCOMMIT}
  * configuration property, and {@linkplain MongoConnectionProvider#getConnection() provides} {@link Connection}s with
@@ -57,14 +63,22 @@ public final class MongoConnectionProvider implements ConnectionProvider, Stoppa
 
     private @Nullable StandardServiceRegistryScopedState standardServiceRegistryScopedState;
     private @Nullable MongoClient mongoClient;
+    private @Nullable ClientSessionFactory clientSessionFactory;
+    private @Nullable ServerVersionCache serverVersionCache;
+    private @Nullable ExecutorService cursorPrefetchExecutor;
 
     @Override
     public Connection getConnection() throws SQLException {
         try {
-            var client = assertNotNull(mongoClient);
-            var clientSession = client.startSession();
-            var config = assertNotNull(standardServiceRegistryScopedState).getConfiguration();
-            return new MongoConnection(config, client, clientSession);
+            var sessionFactory = assertNotNull(clientSessionFactory);
+            var clientSession = sessionFactory.startSession();
+            return new MongoConnection(
+                    assertNotNull(standardServiceRegistryScopedState),
+                    assertNotNull(mongoClient),
+                    sessionFactory,
+                    assertNotNull(serverVersionCache),
+                    assertNotNull(cursorPrefetchExecutor),
+                    clientSession);
         } catch (HibernateException e) {
             throw e;
         } catch (RuntimeException e) {
@@ -84,16 +98,26 @@ public final class MongoConnectionProvider implements ConnectionProvider, Stoppa
 
     @Override
     public boolean isUnwrappableAs(Class<?> unwrapType) {
-        return false;
+        return unwrapType.equals(MongoSessionStatistics.class)
+                || unwrapType.equals(MongoCommandTemplateCacheStatistics.class);
     }
 
     @Override
     public <T> T unwrap(Class<T> unwrapType) {
+        if (unwrapType.equals(MongoSessionStatistics.class)) {
+            return unwrapType.cast(assertNotNull(clientSessionFactory));
+        }
+        if (unwrapType.equals(MongoCommandTemplateCacheStatistics.class)) {
+            return unwrapType.cast(assertNotNull(standardServiceRegistryScopedState).getMqlCommandTemplates());
+        }
         throw new UnknownUnwrapTypeException(unwrapType);
     }
 
     @Override
     public void stop() {
+        if (cursorPrefetchExecutor != null) {
+            cursorPrefetchExecutor.shutdownNow();
+        }
         if (mongoClient != null) {
             mongoClient.close();
         }
@@ -103,13 +127,24 @@ public final class MongoConnectionProvider implements ConnectionProvider, Stoppa
     public void injectStandardServiceRegistryScopedState(
             StandardServiceRegistryScopedState standardServiceRegistryScopedState) {
         this.standardServiceRegistryScopedState = standardServiceRegistryScopedState;
-        var mongoClientSettings =
+        var configuredMongoClientSettings =
                 standardServiceRegistryScopedState.getConfiguration().mongoClientSettings();
+        var versionCache = new ServerVersionCache(
+                configuredMongoClientSettings.getClusterSettings().getServerSelectionTimeout(MILLISECONDS));
+        serverVersionCache = versionCache;
+        var mongoClientSettings = MongoClientSettings.builder(configuredMongoClientSettings)
+                .applyToClusterSettings(builder -> builder.addClusterListener(versionCache))
+                .build();
         var driverInfo = MongoDriverInformation.builder()
                 .driverName(assertNotNull(BuildConfig.NAME))
                 .driverVersion(assertNotNull(BuildConfig.VERSION))
                 .build();
         mongoClient = MongoClients.create(mongoClientSettings, driverInfo);
+        clientSessionFactory = new ClientSessionFactory(mongoClient);
+        // each fetching thread needs a pooled connection, so there is no point in having more threads than connections
+        var maxConnectionPoolSize = mongoClientSettings.getConnectionPoolSettings().getMaxSize();
+        cursorPrefetchExecutor = PrefetchingMongoCursor.createFetchExecutor(
+                maxConnectionPoolSize > 0 ? maxConnectionPoolSize : Integer.MAX_VALUE);
     }
 
     @Serial
@@ -17,13 +17,14 @@
 package com.mongodb.hibernate.jdbc;
 
 import static com.mongodb.hibernate.internal.MongoAssertions.assertInstanceOf;
-import static com.mongodb.hibernate.internal.MongoAssertions.fail;
+import static com.mongodb.hibernate.internal.MongoAssertions.assertNotNull;
 import static com.mongodb.hibernate.internal.type.ValueConversions.toBsonValue;
 import static java.lang.String.format;
 
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.internal.mql.MqlCommandTemplate;
 import com.mongodb.hibernate.internal.type.MongoStructJdbcType;
 import com.mongodb.hibernate.internal.type.ObjectIdJdbcType;
 import java.math.BigDecimal;
@@ -34,7 +35,6 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
-import java.sql.SQLSyntaxErrorException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
@@ -43,25 +43,40 @@ import java.util.Calendar;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
-import org.bson.BsonType;
 import org.bson.BsonValue;
+import org.bson.io.BasicOutputBuffer;
 import org.bson.types.ObjectId;
+import org.jspecify.annotations.Nullable;
 
 final class MongoPreparedStatement extends MongoStatement implements PreparedStatementAdapter {
 
-    private final BsonDocument command;
+    private final MqlCommandTemplate commandTemplate;
+
+    private final BasicOutputBuffer commandBuffer;
 
     private final List<ParameterValueSetter> parameterValueSetters;
 
+    /**
+     * @param commandBuffer The buffer {@linkplain MqlCommandTemplate#bind(IntFunction, BasicOutputBuffer) binding}
+     *     writes into. It may be shared with other statements of {@code mongoConnection}.
+     */
     MongoPreparedStatement(
-            MongoDatabase mongoDatabase, ClientSession clientSession, MongoConnection mongoConnection, String mql)
-            throws SQLSyntaxErrorException {
+            MongoDatabase mongoDatabase,
+            ClientSession clientSession,
+            MongoConnection mongoConnection,
+            MqlCommandTemplate commandTemplate,
+            BasicOutputBuffer commandBuffer) {
         super(mongoDatabase, clientSession, mongoConnection);
-        this.command = MongoStatement.parse(mql);
-        this.parameterValueSetters = new ArrayList<>();
-        parseParameters(command, parameterValueSetters);
+        this.commandTemplate = commandTemplate;
+        this.commandBuffer = commandBuffer;
+        var parameterCount = commandTemplate.getParameterSlots().size();
+        this.parameterValueSetters = new ArrayList<>(parameterCount);
+        for (var i = 0; i < parameterCount; i++) {
+            parameterValueSetters.add(new ParameterValueSetter());
+        }
     }
 
     @Override
@@ -69,7 +84,7 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
         checkClosed();
         closeLastOpenResultSet();
         checkAllParametersSet();
-        return executeQueryCommand(command);
+        return executeQueryCommand(bindCommand());
     }
 
     @Override
@@ -77,7 +92,33 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
         checkClosed();
         closeLastOpenResultSet();
         checkAllParametersSet();
-        return executeUpdateCommand(command);
+        return executeUpdateCommand(bindCommand());
+    }
+
+    /**
+     * Executes a command producing a {@link ResultSet}, which is either an {@code aggregate} command, or a
+     * {@code findAndModify} command. Hibernate ORM executes the latter this way when an entity mutation returns the
+     * values generated by the DBMS.
+     */
+    @Override
+    public boolean execute() throws SQLException {
+        checkClosed();
+        closeLastOpenResultSet();
+        checkAllParametersSet();
+        var command = bindCommand();
+        var commandName = command.getFirstKey();
+        switch (commandName) {
+            case "aggregate" -> executeQueryCommand(command);
+            case "findAndModify" -> executeFindAndModifyCommand(command);
+            default -> throw new SQLFeatureNotSupportedException(
+                    format("Command [%s] does not produce a ResultSet", commandName));
+        }
+        return true;
+    }
+
+    private BsonDocument bindCommand() {
+        return commandTemplate.bind(
+                parameterIndex -> parameterValueSetters.get(parameterIndex).getValue(), commandBuffer);
     }
 
     private void checkAllParametersSet() throws SQLException {
@@ -86,7 +127,7 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
                 throw new SQLException(format("Parameter with index [%d] is not set", i + 1));
             }
         }
-        checkComparatorNotComparingWithNullValues(command);
+        checkComparatorNotComparingWithNullValues();
     }
 
     @Override
@@ -201,7 +242,8 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
     @Override
     public void addBatch() throws SQLException {
         checkClosed();
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-35 https://jira.mongodb.org/browse/HIBERNATE-35");
+        checkAllParametersSet();
+        addBatchCommand(bindCommand());
     }
 
     @Override
@@ -232,18 +274,6 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
         throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-42 https://jira.mongodb.org/browse/HIBERNATE-42");
     }
 
-    @Override
-    public void setQueryTimeout(int seconds) throws SQLException {
-        checkClosed();
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-55 https://jira.mongodb.org/browse/HIBERNATE-55");
-    }
-
-    @Override
-    public void setFetchSize(int rows) throws SQLException {
-        checkClosed();
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-54 https://jira.mongodb.org/browse/HIBERNATE-54");
-    }
-
     @Override
     public ResultSet executeQuery(String mql) throws SQLException {
         throw new SQLException(format("Must not be called on %s", PreparedStatement.class.getSimpleName()));
@@ -269,43 +299,6 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
         parameterValueSetter.accept(parameterValue);
     }
 
-    private static void parseParameters(BsonDocument command, List<ParameterValueSetter> parameterValueSetters) {
-        for (var entry : command.entrySet()) {
-            if (isParameterMarker(entry.getValue())) {
-                parameterValueSetters.add(new ParameterValueSetter(entry::setValue));
-            } else if (entry.getValue().getBsonType().isContainer()) {
-                parseParameters(entry.getValue(), parameterValueSetters);
-            }
-        }
-    }
-
-    private static void parseParameters(BsonArray array, List<ParameterValueSetter> parameterValueSetters) {
-        for (var i = 0; i < array.size(); i++) {
-            var value = array.get(i);
-            if (isParameterMarker(value)) {
-                var idx = i;
-                parameterValueSetters.add(new ParameterValueSetter(v -> array.set(idx, v)));
-            } else if (value.getBsonType().isContainer()) {
-                parseParameters(value, parameterValueSetters);
-            }
-        }
-    }
-
-    private static void parseParameters(BsonValue value, List<ParameterValueSetter> parameterValueSetters) {
-        if (value instanceof BsonDocument document) {
-            parseParameters(document, parameterValueSetters);
-        } else if (value instanceof BsonArray array) {
-            parseParameters(array, parameterValueSetters);
-        } else {
-            fail("Only BSON container type (BsonDocument or BsonArray) is accepted; provided type: "
-                    + value.getBsonType());
-        }
-    }
-
-    private static boolean isParameterMarker(BsonValue value) {
-        return value.getBsonType() == BsonType.UNDEFINED;
-    }
-
     private void checkParameterIndex(int parameterIndex) throws SQLException {
         if (parameterValueSetters.isEmpty()) {
             throw new SQLException("No parameter exists");
@@ -318,21 +311,19 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
     }
 
     private static final class ParameterValueSetter implements Consumer<BsonValue> {
-        private final Consumer<BsonValue> setter;
-        private boolean used;
-
-        ParameterValueSetter(Consumer<BsonValue> setter) {
-            this.setter = setter;
-        }
+        private @Nullable BsonValue value;
 
         @Override
         public void accept(BsonValue bsonValue) {
-            used = true;
-            setter.accept(bsonValue);
+            value = bsonValue;
         }
 
         boolean isUsed() {
-            return used;
+            return value != null;
+        }
+
+        BsonValue getValue() {
+            return assertNotNull(value);
         }
     }
 
@@ -340,20 +331,62 @@ final class MongoPreparedStatement extends MongoStatement implements PreparedSta
      * Temporary method to ensure exception is thrown when comparison query operators are comparing with {@code null}
      * values.
      *
+     * <p>The {@linkplain MqlCommandTemplate#isComparingWithNullValues() template}, the
+     * {@linkplain MqlCommandTemplate.ParameterSlot#comparisonOperand() comparison operands} and the elements of the
+     * {@linkplain MqlCommandTemplate.ParameterSlot#comparisonOperandArray() arrays of comparison operands} are checked
+     * upfront, so that only the bound values that are documents or arrays have to be searched.
+     *
      * <p>Note that only find expression is involved before HIBERNATE-74. TODO-HIBERNATE-74 delete this temporary method
      */
+    private void checkComparatorNotComparingWithNullValues() {
+        if (commandTemplate.isComparingWithNullValues()) {
+            throw new FeatureNotSupportedException("TODO-HIBERNATE-74 https://jira.mongodb.org/browse/HIBERNATE-74");
+        }
+        var parameterSlots = commandTemplate.getParameterSlots();
+        for (var i = 0; i < parameterSlots.size(); i++) {
+            var value = parameterValueSetters.get(i).getValue();
+            var parameterSlot = parameterSlots.get(i);
+            if ((value.isNull() && parameterSlot.comparisonOperand())
+                    || (parameterSlot.comparisonOperandArray()
+                            && value instanceof BsonArray arrayValue
+                            && arrayValue.stream().anyMatch(BsonValue::isNull))) {
+                throw new FeatureNotSupportedException(
+                        "TODO-HIBERNATE-74 https://jira.mongodb.org/browse/HIBERNATE-74");
+            }
+            checkComparatorNotComparingWithNullValues(value);
+        }
+    }
+
+    private static void checkComparatorNotComparingWithNullValues(BsonValue value) {
+        if (value instanceof BsonDocument documentValue) {
+            checkComparatorNotComparingWithNullValues(documentValue);
+        } else if (value instanceof BsonArray arrayValue) {
+            for (var element : arrayValue) {
+                if (element instanceof BsonDocument documentElement) {
+                    checkComparatorNotComparingWithNullValues(documentElement);
+                }
+            }
+        }
+    }
+
     private static void checkComparatorNotComparingWithNullValues(BsonDocument document) {
         var comparisonOperators = Set.of("$eq", "$ne", "$gt", "$gte", "$lt", "$lte", "$in", "$nin");
         for (var entry : document.entrySet()) {
             var value = entry.getValue();
-            if (value.isNull() && comparisonOperators.contains(entry.getKey())) {
+            var key = entry.getKey();
+            if (value.isNull() && comparisonOperators.contains(key)) {
                 throw new FeatureNotSupportedException(
                         "TODO-HIBERNATE-74 https://jira.mongodb.org/browse/HIBERNATE-74");
             }
             if (value instanceof BsonDocument documentValue) {
                 checkComparatorNotComparingWithNullValues(documentValue);
             } else if (value instanceof BsonArray arrayValue) {
+                var arrayComparisonOperator = key.equals("$in") || key.equals("$nin");
                 for (var element : arrayValue) {
+                    if (element.isNull() && arrayComparisonOperator) {
+                        throw new FeatureNotSupportedException(
+                                "TODO-HIBERNATE-74 https://jira.mongodb.org/browse/HIBERNATE-74");
+                    }
                     if (element instanceof BsonDocument documentElement) {
                         checkComparatorNotComparingWithNullValues(documentElement);
                     }
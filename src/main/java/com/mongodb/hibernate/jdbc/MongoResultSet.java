@@ -38,48 +38,62 @@ import static java.lang.String.format;
 
 import com.mongodb.client.MongoCursor;
 import com.mongodb.hibernate.internal.type.ValueConversions;
+import com.mongodb.hibernate.jdbc.ProjectedRowCodec.Row;
 import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.Date;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Objects;
 import org.bson.BsonDocument;
+import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.types.ObjectId;
 import org.jspecify.annotations.Nullable;
 
 final class MongoResultSet implements ResultSetAdapter {
 
-    private final MongoCursor<BsonDocument> mongoCursor;
+    private final Statement statement;
+
+    private final MongoCursor<Row> mongoCursor;
 
     private final List<String> fieldNames;
 
-    private @Nullable BsonDocument currentDocument;
+    private @Nullable Row currentRow;
 
     private boolean lastReadColumnValueWasNull;
 
     private boolean closed;
 
-    MongoResultSet(MongoCursor<BsonDocument> mongoCursor, List<String> fieldNames) {
+    private int fetchSize;
+
+    /** {@code mongoCursor} must decode documents using {@link ProjectedRowCodec} created for {@code fieldNames}. */
+    MongoResultSet(Statement statement, MongoCursor<Row> mongoCursor, List<String> fieldNames, int fetchSize) {
         assertFalse(fieldNames.isEmpty());
+        this.statement = statement;
         this.mongoCursor = mongoCursor;
         this.fieldNames = fieldNames;
+        this.fetchSize = fetchSize;
     }
 
     @Override
     public boolean next() throws SQLException {
         checkClosed();
-        if (mongoCursor.hasNext()) {
-            currentDocument = mongoCursor.next();
-            return true;
-        } else {
-            return false;
+        try {
+            if (mongoCursor.hasNext()) {
+                currentRow = mongoCursor.next();
+                return true;
+            } else {
+                return false;
+            }
+        } catch (RuntimeException e) {
+            throw new SQLException("Failed to get next row", e);
         }
     }
 
@@ -118,6 +132,9 @@ final class MongoResultSet implements ResultSetAdapter {
     public boolean getBoolean(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isPrimitiveValue(columnIndex, BsonType.BOOLEAN)) {
+            return assertNotNull(currentRow).getBoolean(columnIndex - 1);
+        }
         return getValue(columnIndex, ValueConversions::toBooleanDomainValue, false);
     }
 
@@ -125,6 +142,9 @@ final class MongoResultSet implements ResultSetAdapter {
     public int getInt(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isPrimitiveValue(columnIndex, BsonType.INT32)) {
+            return assertNotNull(currentRow).getInt(columnIndex - 1);
+        }
         return getValue(columnIndex, ValueConversions::toIntDomainValue, 0);
     }
 
@@ -132,6 +152,9 @@ final class MongoResultSet implements ResultSetAdapter {
     public long getLong(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isPrimitiveValue(columnIndex, BsonType.INT64)) {
+            return assertNotNull(currentRow).getLong(columnIndex - 1);
+        }
         return getValue(columnIndex, ValueConversions::toLongDomainValue, 0L);
     }
 
@@ -139,6 +162,9 @@ final class MongoResultSet implements ResultSetAdapter {
     public double getDouble(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
+        if (isPrimitiveValue(columnIndex, BsonType.DOUBLE)) {
+            return assertNotNull(currentRow).getDouble(columnIndex - 1);
+        }
         return getValue(columnIndex, ValueConversions::toDoubleDomainValue, 0d);
     }
 
@@ -174,14 +200,18 @@ final class MongoResultSet implements ResultSetAdapter {
     public @Nullable Timestamp getTimestamp(int columnIndex) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-42 https://jira.mongodb.org/browse/HIBERNATE-42");
+        return getValue(columnIndex, ValueConversions::toTimestampDomainValue);
     }
 
+    /**
+     * MongoDB DBMS stores a date as the number of milliseconds since the Unix epoch, which does not depend on a time
+     * zone, therefore {@code cal} is not used.
+     */
     @Override
     public @Nullable Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
         checkClosed();
         checkColumnIndex(columnIndex);
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-42 https://jira.mongodb.org/browse/HIBERNATE-42");
+        return getValue(columnIndex, ValueConversions::toTimestampDomainValue);
     }
 
     @Override
@@ -217,23 +247,51 @@ final class MongoResultSet implements ResultSetAdapter {
     @Override
     public ResultSetMetaData getMetaData() throws SQLException {
         checkClosed();
-        return new MongoResultSetMetadata();
+        return new MongoResultSetMetadata(fieldNames.size());
+    }
+
+    /**
+     * Records {@code rows} as the {@linkplain #getFetchSize() fetch size}. The batch size of an open
+     * {@link MongoCursor} cannot be changed, so the hint affects neither the batches already requested, nor the ones
+     * requested later, which stay as {@linkplain MongoStatement#setFetchSize(int) specified} when the query was
+     * executed.
+     */
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        checkClosed();
+        if (rows < 0) {
+            throw new SQLException(format("Invalid fetch size [%d]; cannot be negative", rows));
+        }
+        fetchSize = rows;
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        checkClosed();
+        return fetchSize;
     }
 
     @Override
     public int findColumn(String columnLabel) throws SQLException {
         checkClosed();
-        throw new SQLFeatureNotSupportedException("To be implemented in scope of native query tickets");
+        for (var i = 0; i < fieldNames.size(); i++) {
+            if (fieldNames.get(i).equalsIgnoreCase(columnLabel)) {
+                return i + 1;
+            }
+        }
+        throw new SQLException(format("Column [%s] does not exist", columnLabel));
     }
 
     @Override
-    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    public Statement getStatement() throws SQLException {
         checkClosed();
-        return false;
+        return statement;
     }
 
-    private String getKey(int columnIndex) {
-        return fieldNames.get(columnIndex - 1);
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        checkClosed();
+        return false;
     }
 
     private void checkClosed() throws SQLException {
@@ -249,8 +307,7 @@ final class MongoResultSet implements ResultSetAdapter {
 
     private <T> @Nullable T getValue(int columnIndex, SqlFunction<BsonValue, T> toJavaConverter) throws SQLException {
         try {
-            var key = getKey(columnIndex);
-            var bsonValue = assertNotNull(currentDocument).get(key);
+            var bsonValue = assertNotNull(currentRow).getValue(columnIndex - 1);
             T value = ValueConversions.isNull(bsonValue) ? null : toJavaConverter.apply(assertNotNull(bsonValue));
             lastReadColumnValueWasNull = value == null;
             return value;
@@ -259,6 +316,18 @@ final class MongoResultSet implements ResultSetAdapter {
         }
     }
 
+    /**
+     * Checks whether the value of the column is stored unboxed in {@link #currentRow} with the {@code type}, in which
+     * case it is read directly from there, instead of {@linkplain #getValue(int, SqlFunction) via} a {@link BsonValue}.
+     */
+    private boolean isPrimitiveValue(int columnIndex, BsonType type) {
+        if (assertNotNull(currentRow).getType(columnIndex - 1) == type) {
+            lastReadColumnValueWasNull = false;
+            return true;
+        }
+        return false;
+    }
+
     private void checkColumnIndex(int columnIndex) throws SQLException {
         if (columnIndex < 1 || columnIndex > fieldNames.size()) {
             throw new SQLException(format(
@@ -267,7 +336,12 @@ final class MongoResultSet implements ResultSetAdapter {
         }
     }
 
-    private static final class MongoResultSetMetadata implements ResultSetMetaDataAdapter {}
+    private record MongoResultSetMetadata(int columnCount) implements ResultSetMetaDataAdapter {
+        @Override
+        public int getColumnCount() {
+            return columnCount;
+        }
+    }
 
     private interface SqlFunction<T, R> {
         R apply(T t) throws SQLException;
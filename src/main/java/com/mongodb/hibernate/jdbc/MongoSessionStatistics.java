@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import com.mongodb.hibernate.internal.Sealed;
+
+/**
+ * The statistics of the {@link com.mongodb.client.ClientSession}s of the {@link java.sql.Connection}s a
+ * {@link MongoConnectionProvider} {@linkplain MongoConnectionProvider#getConnection() provides}. They are available via
+ * {@link MongoConnectionProvider#unwrap(Class)}:
+ *
+ * <pre>{@code
+ * var statistics = sessionFactory.getServiceRegistry()
+ *         .requireService(ConnectionProvider.class)
+ *         .unwrap(MongoSessionStatistics.class);
+ * }</pre>
+ *
+ * <p>The difference between the {@linkplain #getStartCount() started} and the
+ * {@linkplain #getCloseCount() closed} sessions is the number of {@link java.sql.Connection}s that are not closed.
+ */
+@Sealed
+public interface MongoSessionStatistics {
+    /**
+     * Gets the number of started sessions.
+     *
+     * @return The number of started sessions.
+     */
+    long getStartCount();
+
+    /**
+     * Gets the number of closed sessions.
+     *
+     * @return The number of closed sessions.
+     */
+    long getCloseCount();
+}
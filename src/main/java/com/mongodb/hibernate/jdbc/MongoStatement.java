@@ -16,41 +16,107 @@
 
 package com.mongodb.hibernate.jdbc;
 
+import static com.mongodb.MongoClientSettings.getDefaultCodecRegistry;
+import static com.mongodb.hibernate.internal.MongoAssertions.fail;
 import static com.mongodb.hibernate.internal.MongoConstants.ID_FIELD_NAME;
 import static com.mongodb.hibernate.internal.VisibleForTesting.AccessModifier.PRIVATE;
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.toCollection;
-
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.hibernate.internal.FeatureNotSupportedException;
 import com.mongodb.hibernate.internal.VisibleForTesting;
+import com.mongodb.hibernate.jdbc.ProjectedRowCodec.Row;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLSyntaxErrorException;
 import java.sql.SQLWarning;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonBoolean;
 import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonElement;
+import org.bson.BsonInt64;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
 import org.jspecify.annotations.Nullable;
 
 class MongoStatement implements StatementAdapter {
 
+    private static final Set<String> BATCHABLE_COMMAND_NAMES = Set.of("insert", "update", "delete");
+    private static final Set<String> BATCHABLE_UPDATE_STATEMENT_FIELD_NAMES = Set.of("q", "u", "multi", "upsert");
+    private static final Set<String> BATCHABLE_DELETE_STATEMENT_FIELD_NAMES = Set.of("q", "limit");
+
     private final MongoDatabase mongoDatabase;
     private final MongoConnection mongoConnection;
+    /** Must be used only while holding its monitor, see {@link PrefetchingMongoCursor}. */
     private final ClientSession clientSession;
 
+    private final List<BsonDocument> batchCommands;
+
     private @Nullable ResultSet resultSet;
     private boolean closed;
 
+    /**
+     * Guards {@link #executing} and {@link #sessionIdentifier}. {@link #endExecution()} waits for an in-progress
+     * {@link #cancel()}, and, since it is called while holding the monitor of {@link #clientSession}, no other
+     * operation may start in the session until {@link #cancel()} stops looking for the operations of this
+     * {@link java.sql.Statement} to kill.
+     */
+    private final Object executionLock = new Object();
+
+    /** Whether a command of this {@link java.sql.Statement} is being executed, guarded by {@link #executionLock}. */
+    private boolean executing;
+
+    /**
+     * The identifier of the server session of {@link #clientSession} if the command being executed is executed in a
+     * transaction, otherwise {@code null}, guarded by {@link #executionLock}. It is captured while holding the monitor
+     * of {@link #clientSession}, so that {@link #cancel()} does not have to use {@link #clientSession}.
+     */
+    private @Nullable BsonDocument sessionIdentifier;
+
+    /** The server cursor of the last {@link ResultSet}, captured when it is created. */
+    private volatile @Nullable OpenCursor openCursor;
+    private int fetchSize;
+    private int queryTimeout;
+
     MongoStatement(MongoDatabase mongoDatabase, ClientSession clientSession, MongoConnection mongoConnection) {
         this.mongoDatabase = mongoDatabase;
         this.mongoConnection = mongoConnection;
         this.clientSession = clientSession;
+        this.batchCommands = new ArrayList<>();
     }
 
     @Override
@@ -62,31 +128,104 @@ class MongoStatement implements StatementAdapter {
     }
 
     void closeLastOpenResultSet() throws SQLException {
+        openCursor = null;
         if (resultSet != null && !resultSet.isClosed()) {
             resultSet.close();
         }
+        resultSet = null;
     }
 
-    ResultSet executeQueryCommand(BsonDocument command) throws SQLException {
-        try {
-            startTransactionIfNeeded();
+    /**
+     * Must be called while holding the monitor of {@link #clientSession}, and, unless it fails, followed by
+     * {@link #endExecution()}.
+     *
+     * @param write Whether the {@link java.sql.Statement} may write.
+     */
+    private void startExecution(boolean write) throws SQLException {
+        startTransactionIfNeeded(write);
+        var transactionSession = getTransactionSession();
+        var transactionSessionIdentifier = transactionSession == null
+                ? null
+                : transactionSession.getServerSession().getIdentifier();
+        synchronized (executionLock) {
+            sessionIdentifier = transactionSessionIdentifier;
+            executing = true;
+        }
+    }
 
-            var collectionName = command.getString("aggregate").getValue();
-            var collection = mongoDatabase.getCollection(collectionName, BsonDocument.class);
+    private void endExecution() {
+        synchronized (executionLock) {
+            executing = false;
+            sessionIdentifier = null;
+        }
+    }
 
-            var pipeline = command.getArray("pipeline").stream()
-                    .map(BsonValue::asDocument)
-                    .toList();
-            var fieldNames = getFieldNamesFromProjectStage(
-                    pipeline.get(pipeline.size() - 1).getDocument("$project"));
+    /**
+     * Returns {@link #clientSession} if it has an active transaction, otherwise {@code null}, in which case the
+     * operations are executed in implicit sessions of the driver. This way, the
+     * {@linkplain ClientSession#getServerSession() server session} of {@link #clientSession}, which the driver checks
+     * out of its pool of server sessions only when it is first needed, is not used by a connection that never starts a
+     * transaction.
+     *
+     * <p>Must be called while holding the monitor of {@link #clientSession}.
+     */
+    private @Nullable ClientSession getTransactionSession() {
+        return clientSession.hasActiveTransaction() ? clientSession : null;
+    }
 
-            return resultSet = new MongoResultSet(
-                    collection.aggregate(clientSession, pipeline).cursor(), fieldNames);
+    ResultSet executeQueryCommand(BsonDocument command) throws SQLException {
+        try {
+            synchronized (clientSession) {
+                startExecution(false);
+                try {
+                    return doExecuteQueryCommand(command);
+                } finally {
+                    endExecution();
+                }
+            }
         } catch (RuntimeException e) {
             throw new SQLException("Failed to execute query", e);
         }
     }
 
+    /** Must be called while holding the monitor of {@link #clientSession}. */
+    private ResultSet doExecuteQueryCommand(BsonDocument command) {
+        var pipeline = command.getArray("pipeline").stream().map(BsonValue::asDocument).toList();
+        var fieldNames = getFieldNamesFromProjectStage(pipeline.get(pipeline.size() - 1).getDocument("$project"));
+
+        var collectionName = command.getString("aggregate").getValue();
+        var collection = mongoDatabase
+                .getCollection(collectionName, Row.class)
+                .withCodecRegistry(fromRegistries(
+                        fromCodecs(new ProjectedRowCodec(fieldNames)), getDefaultCodecRegistry()));
+        var transactionSession = getTransactionSession();
+        var readPreference = transactionSession == null ? mongoConnection.getQueryReadPreference() : null;
+        if (readPreference != null) {
+            collection = collection.withReadPreference(readPreference);
+        }
+
+        var aggregateIterable = transactionSession == null
+                ? collection.aggregate(pipeline)
+                : collection.aggregate(transactionSession, pipeline);
+        if (fetchSize > 0) {
+            aggregateIterable.batchSize(fetchSize);
+        }
+        if (queryTimeout > 0) {
+            aggregateIterable.maxTime(queryTimeout, SECONDS);
+        }
+        MongoCursor<Row> cursor = aggregateIterable.cursor();
+        var serverCursor = cursor.getServerCursor();
+        if (serverCursor != null) {
+            openCursor = new OpenCursor(collectionName, serverCursor, readPreference);
+        }
+        var cursorPrefetchBatches = mongoConnection.getCursorPrefetchBatches();
+        if (cursorPrefetchBatches > 0) {
+            cursor = PrefetchingMongoCursor.prefetchIfPossible(
+                    cursor, clientSession, cursorPrefetchBatches, mongoConnection.getCursorPrefetchExecutor());
+        }
+        return resultSet = new MongoResultSet(this, cursor, fieldNames, fetchSize);
+    }
+
     @VisibleForTesting(otherwise = PRIVATE)
     static List<String> getFieldNamesFromProjectStage(BsonDocument projectStage) {
         var fieldNames = projectStage.entrySet().stream()
@@ -127,27 +266,221 @@ class MongoStatement implements StatementAdapter {
 
     int executeUpdateCommand(BsonDocument command) throws SQLException {
         try {
-            startTransactionIfNeeded();
-            return mongoDatabase.runCommand(clientSession, command).getInteger("n");
+            synchronized (clientSession) {
+                startExecution(true);
+                try {
+                    if (isSingleDocumentWrite(command) && !isMaxTimeRequired()) {
+                        return executeSingleDocumentWrite(command);
+                    }
+                    return runWriteCommand(command);
+                } finally {
+                    endExecution();
+                }
+            }
         } catch (RuntimeException e) {
             throw new SQLException("Failed to execute update command", e);
         }
     }
 
+    /** Must be called while holding the monitor of {@link #clientSession}. */
+    private int runWriteCommand(BsonDocument command) {
+        var commandToRun = queryTimeout > 0
+                ? appendElement(
+                        command, new BsonElement("maxTimeMS", new BsonInt64(SECONDS.toMillis(queryTimeout))))
+                : command;
+        var transactionSession = getTransactionSession();
+        var commandResult = transactionSession == null
+                ? mongoDatabase.runCommand(commandToRun)
+                : mongoDatabase.runCommand(transactionSession, commandToRun);
+        return commandResult.getInteger("n");
+    }
+
+    /**
+     * Tells whether the query timeout must be applied as {@code maxTimeMS}, because the driver does not allow
+     * {@linkplain MongoCollection#withTimeout(long, java.util.concurrent.TimeUnit) timeouts} of operations executed in
+     * a transaction. Such writes are run as commands rather than
+     * {@linkplain MongoCollection#bulkWrite(ClientSession, List) bulk writes}, which do not support {@code maxTimeMS},
+     * but are not retried as retryable writes in a transaction anyway.
+     *
+     * <p>Must be called while holding the monitor of {@link #clientSession}.
+     */
+    private boolean isMaxTimeRequired() {
+        return queryTimeout > 0 && getTransactionSession() != null;
+    }
+
+    /**
+     * Tells whether each statement of the {@code update}/{@code delete} {@code command} writes at most one document.
+     * Such a command is executed as a {@linkplain MongoCollection#bulkWrite(ClientSession, List) bulk write}, which the
+     * driver may retry as a retryable write, unlike a command run via
+     * {@link MongoDatabase#runCommand(ClientSession, org.bson.conversions.Bson)}.
+     */
+    private static boolean isSingleDocumentWrite(BsonDocument command) {
+        return switch (command.getFirstKey()) {
+            case "update" -> allStatementsMatch(command, "updates", MongoStatement::isSingleDocumentUpdate);
+            case "delete" -> allStatementsMatch(command, "deletes", MongoStatement::isSingleDocumentDelete);
+            default -> false;
+        };
+    }
+
+    private static boolean allStatementsMatch(
+            BsonDocument command, String statementsFieldName, Predicate<BsonDocument> statementPredicate) {
+        return Set.of(command.getFirstKey(), statementsFieldName, "ordered").containsAll(command.keySet())
+                && command.getArray(statementsFieldName).stream()
+                        .allMatch(statement -> statementPredicate.test(statement.asDocument()));
+    }
+
+    private static boolean isSingleDocumentUpdate(BsonDocument statement) {
+        return BATCHABLE_UPDATE_STATEMENT_FIELD_NAMES.containsAll(statement.keySet())
+                && !statement.getBoolean("multi", BsonBoolean.FALSE).getValue();
+    }
+
+    private static boolean isSingleDocumentDelete(BsonDocument statement) {
+        return BATCHABLE_DELETE_STATEMENT_FIELD_NAMES.containsAll(statement.keySet())
+                && statement.getNumber("limit").intValue() == 1;
+    }
+
+    private int executeSingleDocumentWrite(BsonDocument command) throws SQLException {
+        var writeModels = new ArrayList<WriteModel<BsonDocument>>();
+        addWriteModels(command, writeModels);
+        var collection = mongoDatabase.getCollection(getCollectionName(command), BsonDocument.class);
+        if (queryTimeout > 0) {
+            collection = collection.withTimeout(queryTimeout, SECONDS);
+        }
+        var updateCounts = new int[1];
+        setUpdateCounts(List.of(command), bulkWrite(collection, writeModels), updateCounts, 0);
+        return updateCounts[0];
+    }
+
+    ResultSet executeFindAndModifyCommand(BsonDocument command) throws SQLException {
+        try {
+            synchronized (clientSession) {
+                startExecution(true);
+                try {
+                    return doExecuteFindAndModifyCommand(command);
+                } finally {
+                    endExecution();
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new SQLException("Failed to execute findAndModify command", e);
+        }
+    }
+
+    /**
+     * Executes {@code command} via {@link MongoCollection#findOneAndUpdate(ClientSession, org.bson.conversions.Bson,
+     * List, FindOneAndUpdateOptions)}, which the driver may retry as a retryable write, unlike a command run via
+     * {@link MongoDatabase#runCommand(ClientSession, org.bson.conversions.Bson)}. The {@link ResultSet} has the fields
+     * of the document the command returns, if any, which the {@code fields} of {@code command} specify.
+     *
+     * <p>Must be called while holding the monitor of {@link #clientSession}.
+     */
+    private ResultSet doExecuteFindAndModifyCommand(BsonDocument command) {
+        var projection = command.getDocument("fields");
+        var fieldNames = getFieldNamesFromProjectStage(projection);
+        var collection = mongoDatabase
+                .getCollection(getCollectionName(command), Row.class)
+                .withCodecRegistry(fromRegistries(
+                        fromCodecs(new ProjectedRowCodec(fieldNames)), getDefaultCodecRegistry()));
+        var options = new FindOneAndUpdateOptions()
+                .projection(projection)
+                .returnDocument(
+                        command.getBoolean("new", BsonBoolean.FALSE).getValue()
+                                ? ReturnDocument.AFTER
+                                : ReturnDocument.BEFORE)
+                .upsert(command.getBoolean("upsert", BsonBoolean.FALSE).getValue());
+        if (queryTimeout > 0) {
+            options.maxTime(queryTimeout, SECONDS);
+        }
+        var filter = command.getDocument("query");
+        var update = command.getArray("update").stream().map(BsonValue::asDocument).toList();
+        var transactionSession = getTransactionSession();
+        var row = transactionSession == null
+                ? collection.findOneAndUpdate(filter, update, options)
+                : collection.findOneAndUpdate(transactionSession, filter, update, options);
+        return resultSet = new MongoResultSet(this, new SingleRowCursor(row), fieldNames, fetchSize);
+    }
+
     @Override
     public void close() throws SQLException {
         if (!closed) {
             closed = true;
+            mongoConnection.statementClosed(this);
             if (resultSet != null) {
                 resultSet.close();
             }
         }
     }
 
+    /**
+     * Kills the operations in progress in the {@link ClientSession} of the {@linkplain #getConnection() connection}, if
+     * this {@link java.sql.Statement} is being executed in a transaction, and kills the server cursor of its last
+     * {@link ResultSet}, if any, even if the cursor is idle. Must be called from a thread other than the one executing
+     * this {@link java.sql.Statement}, or iterating over its {@link ResultSet}, which then fails with an
+     * {@link SQLException}.
+     *
+     * <p>Outside a transaction, the commands are executed in implicit sessions of the driver, which cannot be
+     * identified, so a command being executed is not killed, only the cursor of the {@link ResultSet} it has returned.
+     *
+     * @see MongoConnection#killSessionOperations(BsonDocument)
+     * @see MongoConnection#killCursor(String, ServerCursor, ReadPreference)
+     */
     @Override
     public void cancel() throws SQLException {
         checkClosed();
-        throw new SQLFeatureNotSupportedException();
+        synchronized (executionLock) {
+            var sessionIdentifier = this.sessionIdentifier;
+            if (executing && sessionIdentifier != null) {
+                mongoConnection.killSessionOperations(sessionIdentifier);
+            }
+        }
+        var openCursor = this.openCursor;
+        if (openCursor != null) {
+            mongoConnection.killCursor(
+                    openCursor.collectionName(), openCursor.serverCursor(), openCursor.readPreference());
+        }
+    }
+
+    /**
+     * Sets the {@code maxTimeMS} of the commands executed by this {@link java.sql.Statement}. Batches, as well as
+     * {@code update}/{@code delete} commands each statement of which writes at most one document, are executed as
+     * {@linkplain MongoCollection#bulkWrite(ClientSession, List) bulk writes} instead, and for them it is applied as
+     * the client-side {@linkplain MongoCollection#withTimeout(long, java.util.concurrent.TimeUnit) timeout} of each
+     * bulk write, which also limits the time spent on selecting a server and retrying, unless they are executed in a
+     * transaction, in which case they are run as commands with {@code maxTimeMS}. Zero means there is no limit.
+     */
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        checkClosed();
+        if (seconds < 0) {
+            throw new SQLException(format("Invalid query timeout [%d]; cannot be negative", seconds));
+        }
+        queryTimeout = seconds;
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        checkClosed();
+        return queryTimeout;
+    }
+
+    /**
+     * Sets the {@linkplain com.mongodb.client.AggregateIterable#batchSize(int) batch size} of the cursors of the
+     * {@link ResultSet}s created by this {@link java.sql.Statement}. Zero means the batch size is decided by the
+     * server.
+     */
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        checkClosed();
+        if (rows < 0) {
+            throw new SQLException(format("Invalid fetch size [%d]; cannot be negative", rows));
+        }
+        fetchSize = rows;
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        checkClosed();
+        return fetchSize;
     }
 
     @Override
@@ -171,7 +504,7 @@ class MongoStatement implements StatementAdapter {
     @Override
     public @Nullable ResultSet getResultSet() throws SQLException {
         checkClosed();
-        throw new SQLFeatureNotSupportedException("To be implemented in scope of index and unique constraint creation");
+        return resultSet;
     }
 
     @Override
@@ -189,20 +522,252 @@ class MongoStatement implements StatementAdapter {
     @Override
     public void addBatch(String mql) throws SQLException {
         checkClosed();
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-35 https://jira.mongodb.org/browse/HIBERNATE-35");
+        var command = parse(mql);
+        addBatchCommand(command);
+    }
+
+    /** @param command Must not be mutated after it was added to the batch. */
+    void addBatchCommand(BsonDocument command) throws SQLException {
+        var commandName = command.isEmpty() ? null : command.getFirstKey();
+        if (commandName == null || !BATCHABLE_COMMAND_NAMES.contains(commandName)) {
+            throw new SQLException(format(
+                    "Only %s commands can be added to a batch, but the command is [%s]",
+                    BATCHABLE_COMMAND_NAMES, commandName));
+        }
+        batchCommands.add(command);
     }
 
     @Override
     public void clearBatch() throws SQLException {
         checkClosed();
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-35 https://jira.mongodb.org/browse/HIBERNATE-35");
+        batchCommands.clear();
     }
 
     @Override
     public int[] executeBatch() throws SQLException {
         checkClosed();
         closeLastOpenResultSet();
-        throw new SQLFeatureNotSupportedException("TODO-HIBERNATE-35 https://jira.mongodb.org/browse/HIBERNATE-35");
+        try {
+            return executeBatchCommands(batchCommands);
+        } finally {
+            batchCommands.clear();
+        }
+    }
+
+    /**
+     * Consecutive commands writing to the same collection are coalesced into a single {@code bulkWrite}, which the
+     * driver splits according to the {@code maxWriteBatchSize}, {@code maxMessageSizeBytes} limits of the server.
+     *
+     * <p>The numbers of matched/deleted documents are reported in total, not per command, thus the update count of an
+     * {@code update}/{@code delete} command is {@link Statement#SUCCESS_NO_INFO} if it cannot be inferred from the
+     * totals.
+     *
+     * <p>If {@linkplain #isMaxTimeRequired() the query timeout must be applied as maxTimeMS}, the commands are run one
+     * by one instead.
+     */
+    private int[] executeBatchCommands(List<BsonDocument> commands) throws SQLException {
+        var updateCounts = new int[commands.size()];
+        if (commands.isEmpty()) {
+            return updateCounts;
+        }
+        var executedCommandCount = 0;
+        try {
+            synchronized (clientSession) {
+                startExecution(true);
+                try {
+                    if (isMaxTimeRequired()) {
+                        while (executedCommandCount < commands.size()) {
+                            updateCounts[executedCommandCount] = runWriteCommand(commands.get(executedCommandCount));
+                            executedCommandCount++;
+                        }
+                        return updateCounts;
+                    }
+                    while (executedCommandCount < commands.size()) {
+                        var collectionName = getCollectionName(commands.get(executedCommandCount));
+                        var endIndex = executedCommandCount + 1;
+                        while (endIndex < commands.size()
+                                && collectionName.equals(getCollectionName(commands.get(endIndex)))) {
+                            endIndex++;
+                        }
+                        executeBulkWrite(
+                                collectionName,
+                                commands.subList(executedCommandCount, endIndex),
+                                updateCounts,
+                                executedCommandCount);
+                        executedCommandCount = endIndex;
+                    }
+                    return updateCounts;
+                } finally {
+                    endExecution();
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new BatchUpdateException(
+                    "Failed to execute batch", Arrays.copyOf(updateCounts, executedCommandCount), e);
+        }
+    }
+
+    private void executeBulkWrite(String collectionName, List<BsonDocument> commands, int[] updateCounts, int offset)
+            throws SQLException {
+        var writeModels = new ArrayList<WriteModel<BsonDocument>>();
+        var writeModelEndIndexes = new int[commands.size()];
+        for (var i = 0; i < commands.size(); i++) {
+            addWriteModels(commands.get(i), writeModels);
+            writeModelEndIndexes[i] = writeModels.size();
+        }
+        var collection = mongoDatabase.getCollection(collectionName, BsonDocument.class);
+        if (queryTimeout > 0) {
+            collection = collection.withTimeout(queryTimeout, SECONDS);
+        }
+        try {
+            setUpdateCounts(commands, bulkWrite(collection, writeModels), updateCounts, offset);
+        } catch (MongoBulkWriteException e) {
+            var failedWriteModelIndex = e.getWriteErrors().isEmpty()
+                    ? writeModels.size()
+                    : e.getWriteErrors().get(0).getIndex();
+            var succeededCommandCount = 0;
+            while (succeededCommandCount < commands.size()
+                    && writeModelEndIndexes[succeededCommandCount] <= failedWriteModelIndex) {
+                succeededCommandCount++;
+            }
+            Arrays.fill(updateCounts, offset, offset + succeededCommandCount, Statement.SUCCESS_NO_INFO);
+            throw new BatchUpdateException(
+                    "Failed to execute batch", Arrays.copyOf(updateCounts, offset + succeededCommandCount), e);
+        }
+    }
+
+    /** Must be called while holding the monitor of {@link #clientSession}. */
+    private BulkWriteResult bulkWrite(
+            MongoCollection<BsonDocument> collection, List<WriteModel<BsonDocument>> writeModels) {
+        var transactionSession = getTransactionSession();
+        return transactionSession == null
+                ? collection.bulkWrite(writeModels)
+                : collection.bulkWrite(transactionSession, writeModels);
+    }
+
+    private static void setUpdateCounts(
+            List<BsonDocument> commands, BulkWriteResult result, int[] updateCounts, int offset) {
+        if (!result.wasAcknowledged()) {
+            Arrays.fill(updateCounts, offset, offset + commands.size(), Statement.SUCCESS_NO_INFO);
+            return;
+        }
+        var updateCommandCount = 0;
+        var deleteCommandCount = 0;
+        var singleDocumentUpdates = true;
+        var singleDocumentDeletes = true;
+        for (var command : commands) {
+            switch (command.getFirstKey()) {
+                case "update" -> {
+                    updateCommandCount++;
+                    singleDocumentUpdates &= isSingleStatementSingleDocumentWrite(command, "updates");
+                }
+                case "delete" -> {
+                    deleteCommandCount++;
+                    singleDocumentDeletes &= isSingleStatementSingleDocumentWrite(command, "deletes");
+                }
+                default -> {}
+            }
+        }
+        var updateCount = getUpdateCount(
+                result.getMatchedCount() + result.getUpserts().size(), updateCommandCount, singleDocumentUpdates);
+        var deleteCount = getUpdateCount(result.getDeletedCount(), deleteCommandCount, singleDocumentDeletes);
+        for (var i = 0; i < commands.size(); i++) {
+            var command = commands.get(i);
+            updateCounts[offset + i] = switch (command.getFirstKey()) {
+                case "insert" -> command.getArray("documents").size();
+                case "update" -> updateCount;
+                case "delete" -> deleteCount;
+                default -> throw fail(command.getFirstKey());
+            };
+        }
+    }
+
+    /**
+     * If each of the commands writes at most one document, for example, an entity with its version in the filter, the
+     * update count of each is 1 if the total equals the number of commands. Otherwise, some of them matched no
+     * document, and, since which ones is not known, the update count of each is 0, so that Hibernate ORM detects stale
+     * data, though it may attribute the staleness to the wrong entity. This is why
+     * {@link com.mongodb.hibernate.dialect.MongoDialect} does not batch versioned data by default.
+     */
+    private static int getUpdateCount(int totalUpdateCount, int commandCount, boolean singleDocumentCommands) {
+        if (commandCount == 1 || totalUpdateCount == 0) {
+            return totalUpdateCount;
+        } else if (singleDocumentCommands) {
+            return totalUpdateCount == commandCount ? 1 : 0;
+        } else {
+            return Statement.SUCCESS_NO_INFO;
+        }
+    }
+
+    private static boolean isSingleStatementSingleDocumentWrite(BsonDocument command, String statementsFieldName) {
+        return command.getArray(statementsFieldName).size() == 1 && isSingleDocumentWrite(command);
+    }
+
+    private static String getCollectionName(BsonDocument command) {
+        return command.getString(command.getFirstKey()).getValue();
+    }
+
+    private static void addWriteModels(BsonDocument command, List<WriteModel<BsonDocument>> writeModels)
+            throws SQLFeatureNotSupportedException {
+        var commandName = command.getFirstKey();
+        switch (commandName) {
+            case "insert" -> {
+                checkBatchedFieldsSupported(command, Set.of(commandName, "documents", "ordered"));
+                for (var document : command.getArray("documents")) {
+                    writeModels.add(new InsertOneModel<>(document.asDocument()));
+                }
+            }
+            case "update" -> {
+                checkBatchedFieldsSupported(command, Set.of(commandName, "updates", "ordered"));
+                for (var element : command.getArray("updates")) {
+                    var statement = element.asDocument();
+                    checkBatchedFieldsSupported(statement, BATCHABLE_UPDATE_STATEMENT_FIELD_NAMES);
+                    var filter = statement.getDocument("q");
+                    var update = statement.get("u");
+                    var options = new UpdateOptions()
+                            .upsert(statement.getBoolean("upsert", BsonBoolean.FALSE).getValue());
+                    var multi = statement.getBoolean("multi", BsonBoolean.FALSE).getValue();
+                    if (update.isArray()) {
+                        var pipeline = update.asArray().stream()
+                                .map(BsonValue::asDocument)
+                                .toList();
+                        if (multi) {
+                            writeModels.add(new UpdateManyModel<>(filter, pipeline, options));
+                        } else {
+                            writeModels.add(new UpdateOneModel<>(filter, pipeline, options));
+                        }
+                    } else if (multi) {
+                        writeModels.add(new UpdateManyModel<>(filter, update.asDocument(), options));
+                    } else {
+                        writeModels.add(new UpdateOneModel<>(filter, update.asDocument(), options));
+                    }
+                }
+            }
+            case "delete" -> {
+                checkBatchedFieldsSupported(command, Set.of(commandName, "deletes", "ordered"));
+                for (var element : command.getArray("deletes")) {
+                    var statement = element.asDocument();
+                    checkBatchedFieldsSupported(statement, BATCHABLE_DELETE_STATEMENT_FIELD_NAMES);
+                    var filter = statement.getDocument("q");
+                    if (statement.getNumber("limit").intValue() == 1) {
+                        writeModels.add(new DeleteOneModel<>(filter));
+                    } else {
+                        writeModels.add(new DeleteManyModel<>(filter));
+                    }
+                }
+            }
+            default -> throw fail(commandName);
+        }
+    }
+
+    private static void checkBatchedFieldsSupported(BsonDocument document, Set<String> supportedFieldNames)
+            throws SQLFeatureNotSupportedException {
+        for (var fieldName : document.keySet()) {
+            if (!supportedFieldNames.contains(fieldName)) {
+                throw new SQLFeatureNotSupportedException(
+                        format("Field [%s] is not supported in batched commands: %s", fieldName, document));
+            }
+        }
     }
 
     @Override
@@ -228,6 +793,21 @@ class MongoStatement implements StatementAdapter {
         }
     }
 
+    /**
+     * Returns a copy of {@code document} with {@code element} appended. Unlike {@link BsonDocument#clone()}, the values
+     * of {@code document} are not decoded if it is a {@link RawBsonDocument}.
+     */
+    private static RawBsonDocument appendElement(BsonDocument document, BsonElement element) {
+        var buffer = new BasicOutputBuffer();
+        try (var writer = new BsonBinaryWriter(buffer);
+                var reader = document instanceof RawBsonDocument rawDocument
+                        ? rawDocument.asBsonReader()
+                        : new BsonDocumentReader(document)) {
+            writer.pipe(reader, List.of(element));
+        }
+        return new RawBsonDocument(buffer.getInternalBuffer(), 0, buffer.getPosition());
+    }
+
     static BsonDocument parse(String mql) throws SQLSyntaxErrorException {
         try {
             return BsonDocument.parse(mql);
@@ -238,11 +818,76 @@ class MongoStatement implements StatementAdapter {
 
     /**
      * Starts transaction for the first {@link java.sql.Statement} executing if
-     * {@linkplain MongoConnection#getAutoCommit() auto-commit} is disabled.
+     * {@linkplain MongoConnection#getAutoCommit() auto-commit} is disabled. If the transaction is
+     * {@linkplain com.mongodb.hibernate.cfg.MongoConfigurator#transactionStartOnFirstWrite(boolean) started on the first
+     * write}, or the {@linkplain MongoConnection#isReadOnly() connection is read-only}, the reads executed before it are
+     * not part of the transaction.
+     *
+     * @param write Whether the {@link java.sql.Statement} may write.
      */
-    private void startTransactionIfNeeded() throws SQLException {
-        if (!mongoConnection.getAutoCommit() && !clientSession.hasActiveTransaction()) {
+    private void startTransactionIfNeeded(boolean write) throws SQLException {
+        if (!mongoConnection.getAutoCommit()
+                && (write || !(mongoConnection.isTransactionStartOnFirstWrite() || mongoConnection.isReadOnly()))
+                && !clientSession.hasActiveTransaction()) {
             clientSession.startTransaction();
         }
     }
+
+    /**
+     * @param collectionName The name of the collection the cursor iterates over.
+     * @param serverCursor The identifier of the cursor and the address of the server it is on.
+     * @param readPreference The {@link ReadPreference} used to create the cursor, {@code null} if the default one.
+     */
+    private record OpenCursor(
+            String collectionName, ServerCursor serverCursor, @Nullable ReadPreference readPreference) {}
+
+    /** Iterates over the row of the document a command returned, if any, without a server cursor. */
+    private static final class SingleRowCursor implements MongoCursor<Row> {
+        private @Nullable Row row;
+
+        SingleRowCursor(@Nullable Row row) {
+            this.row = row;
+        }
+
+        @Override
+        public void close() {
+            row = null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return row != null;
+        }
+
+        @Override
+        public Row next() {
+            var result = tryNext();
+            if (result == null) {
+                throw new NoSuchElementException();
+            }
+            return result;
+        }
+
+        @Override
+        public int available() {
+            return row == null ? 0 : 1;
+        }
+
+        @Override
+        public @Nullable Row tryNext() {
+            var result = row;
+            row = null;
+            return result;
+        }
+
+        @Override
+        public @Nullable ServerCursor getServerCursor() {
+            return null;
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            throw fail();
+        }
+    }
 }
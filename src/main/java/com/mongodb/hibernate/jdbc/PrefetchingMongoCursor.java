@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCursor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link MongoCursor} that fetches the batches of another {@link MongoCursor} in a background thread of an
+ * {@linkplain #createFetchExecutor(int) executor}, so that the round trips to the server overlap with the consumption
+ * of the already fetched documents.
+ *
+ * <p>The background thread uses the {@link ClientSession} of the cursor, if the cursor is created in a transaction,
+ * which is not thread-safe, so it fetches only while holding the monitor of the session. The other users of the session
+ * must do the same for as long as this cursor is open.
+ *
+ * <p>Like any other {@link MongoCursor}, this class must be consumed by a single thread.
+ */
+final class PrefetchingMongoCursor<T> implements MongoCursor<T> {
+
+    private final MongoCursor<T> cursor;
+    private final ClientSession clientSession;
+    private final BlockingQueue<Batch<T>> batches;
+    private final Future<?> fetchTask;
+
+    private List<T> currentBatch;
+    private int currentBatchPosition;
+    private boolean exhausted;
+    private volatile boolean closed;
+
+    /**
+     * @param maxPrefetchedBatches The maximum number of fetched batches waiting to be consumed.
+     * @param fetchExecutor The executor {@linkplain #createFetchExecutor(int) created} for fetching.
+     * @throws RejectedExecutionException If all the threads of {@code fetchExecutor} are busy.
+     */
+    PrefetchingMongoCursor(
+            MongoCursor<T> cursor,
+            ClientSession clientSession,
+            int maxPrefetchedBatches,
+            ExecutorService fetchExecutor) {
+        this.cursor = cursor;
+        this.clientSession = clientSession;
+        batches = new ArrayBlockingQueue<>(maxPrefetchedBatches);
+        currentBatch = List.of();
+        fetchTask = fetchExecutor.submit(this::fetch);
+    }
+
+    /**
+     * Creates a {@link PrefetchingMongoCursor}, unless all the threads of {@code fetchExecutor} are busy, in which case
+     * {@code cursor} is consumed without prefetching.
+     */
+    static <T> MongoCursor<T> prefetchIfPossible(
+            MongoCursor<T> cursor,
+            ClientSession clientSession,
+            int maxPrefetchedBatches,
+            ExecutorService fetchExecutor) {
+        try {
+            return new PrefetchingMongoCursor<>(cursor, clientSession, maxPrefetchedBatches, fetchExecutor);
+        } catch (RejectedExecutionException e) {
+            return cursor;
+        }
+    }
+
+    /**
+     * Creates an executor that runs at most {@code maxThreads} fetching tasks, and rejects more tasks instead of
+     * queuing them, so that a cursor never waits for another one to be consumed or {@linkplain #close() closed}. Its
+     * idle threads terminate.
+     */
+    static ExecutorService createFetchExecutor(int maxThreads) {
+        return new ThreadPoolExecutor(0, maxThreads, 1, TimeUnit.MINUTES, new SynchronousQueue<>(), runnable -> {
+            var thread = new Thread(runnable, PrefetchingMongoCursor.class.getSimpleName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private void fetch() {
+        try {
+            while (true) {
+                Batch<T> batch;
+                synchronized (clientSession) {
+                    if (closed) {
+                        return;
+                    }
+                    batch = fetchBatch();
+                }
+                batches.put(batch);
+                if (batch.last()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Batch<T> fetchBatch() {
+        try {
+            if (!cursor.hasNext()) {
+                return new Batch<>(List.of(), null);
+            }
+            var documents = new ArrayList<T>(cursor.available());
+            do {
+                documents.add(cursor.next());
+            } while (cursor.available() > 0);
+            return new Batch<>(documents, null);
+        } catch (RuntimeException e) {
+            return new Batch<>(List.of(), e);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (available() == 0) {
+            if (exhausted) {
+                return false;
+            }
+            try {
+                consume(batches.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MongoInterruptedException("Interrupted while waiting for the next batch", e);
+            }
+        }
+        return true;
+    }
+
+    private void consume(Batch<T> batch) {
+        var failure = batch.failure();
+        if (failure != null) {
+            exhausted = true;
+            throw failure;
+        }
+        exhausted = batch.last();
+        currentBatch = batch.documents();
+        currentBatchPosition = 0;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentBatch.get(currentBatchPosition++);
+    }
+
+    @Override
+    public int available() {
+        return currentBatch.size() - currentBatchPosition;
+    }
+
+    /** Does not wait for a batch to be fetched. */
+    @Override
+    public @Nullable T tryNext() {
+        while (available() == 0) {
+            if (exhausted) {
+                return null;
+            }
+            var batch = batches.poll();
+            if (batch == null) {
+                return null;
+            }
+            consume(batch);
+        }
+        return currentBatch.get(currentBatchPosition++);
+    }
+
+    @Override
+    public @Nullable ServerCursor getServerCursor() {
+        synchronized (clientSession) {
+            return cursor.getServerCursor();
+        }
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        synchronized (clientSession) {
+            return cursor.getServerAddress();
+        }
+    }
+
+    /**
+     * Cancels fetching, interrupting the background thread, and closes the underlying cursor once the background thread
+     * releases the {@link ClientSession}.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        fetchTask.cancel(true);
+        synchronized (clientSession) {
+            cursor.close();
+        }
+    }
+
+    /**
+     * @param documents The documents of the batch, empty if and only if the batch is the last one.
+     * @param failure The failure to fetch the batch, which makes it the last one.
+     */
+    private record Batch<T>(List<T> documents, @Nullable RuntimeException failure) {
+        boolean last() {
+            return documents.isEmpty();
+        }
+    }
+}
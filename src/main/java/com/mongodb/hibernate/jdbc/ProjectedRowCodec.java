@@ -0,0 +1,223 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import static com.mongodb.hibernate.internal.MongoAssertions.assertFalse;
+import static com.mongodb.hibernate.internal.MongoAssertions.fail;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bson.BsonBoolean;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonValue;
+import org.bson.BsonWriter;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.RawBsonDocumentCodec;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Decodes query results straight into {@link Row}s holding the values of the fields of a {@code $project} stage by
+ * their positions in it. The fields not in the projection are skipped without being decoded. A projected field path
+ * with dots, for example, {@code "customer.name"}, refers to a field of an embedded document.
+ */
+final class ProjectedRowCodec implements Codec<ProjectedRowCodec.Row> {
+
+    private static final BsonValueCodec BSON_VALUE_CODEC = new BsonValueCodec();
+    private static final RawBsonDocumentCodec RAW_BSON_DOCUMENT_CODEC = new RawBsonDocumentCodec();
+
+    private final List<String> fieldNames;
+
+    private final DocumentFields documentFields;
+
+    ProjectedRowCodec(List<String> fieldNames) {
+        assertFalse(fieldNames.isEmpty());
+        this.fieldNames = fieldNames;
+        documentFields = new DocumentFields();
+        for (var i = 0; i < fieldNames.size(); i++) {
+            documentFields.add(fieldNames.get(i), i);
+        }
+    }
+
+    /**
+     * Fields usually come in the order of the projection, which is why the next field in {@link #fieldNames} is tried
+     * before falling back to {@link #documentFields}.
+     */
+    @Override
+    public Row decode(BsonReader reader, DecoderContext decoderContext) {
+        var row = new Row(fieldNames.size());
+        var expectedIndex = 0;
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            var fieldName = reader.readName();
+            Integer index;
+            if (expectedIndex < fieldNames.size() && fieldNames.get(expectedIndex).equals(fieldName)) {
+                index = expectedIndex;
+            } else {
+                index = documentFields.valueIndexes.get(fieldName);
+                if (index == null) {
+                    readEmbeddedDocumentOrSkip(reader, decoderContext, documentFields, fieldName, row);
+                    continue;
+                }
+            }
+            readValue(reader, decoderContext, row, index);
+            expectedIndex = index + 1;
+        }
+        reader.readEndDocument();
+        return row;
+    }
+
+    private static void readEmbeddedDocument(
+            BsonReader reader, DecoderContext decoderContext, DocumentFields documentFields, Row row) {
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            var fieldName = reader.readName();
+            var index = documentFields.valueIndexes.get(fieldName);
+            if (index == null) {
+                readEmbeddedDocumentOrSkip(reader, decoderContext, documentFields, fieldName, row);
+            } else {
+                readValue(reader, decoderContext, row, index);
+            }
+        }
+        reader.readEndDocument();
+    }
+
+    private static void readEmbeddedDocumentOrSkip(
+            BsonReader reader,
+            DecoderContext decoderContext,
+            DocumentFields documentFields,
+            String fieldName,
+            Row row) {
+        var embeddedDocumentFields = documentFields.embeddedDocuments.get(fieldName);
+        if (embeddedDocumentFields != null && reader.getCurrentBsonType() == BsonType.DOCUMENT) {
+            readEmbeddedDocument(reader, decoderContext, embeddedDocumentFields, row);
+        } else {
+            reader.skipValue();
+        }
+    }
+
+    private static void readValue(BsonReader reader, DecoderContext decoderContext, Row row, int index) {
+        var type = reader.getCurrentBsonType();
+        row.types[index] = type;
+        switch (type) {
+            case INT32 -> row.primitives[index] = reader.readInt32();
+            case INT64 -> row.primitives[index] = reader.readInt64();
+            case DOUBLE -> row.primitives[index] = Double.doubleToRawLongBits(reader.readDouble());
+            case BOOLEAN -> row.primitives[index] = reader.readBoolean() ? 1 : 0;
+            case DOCUMENT -> row.values[index] = RAW_BSON_DOCUMENT_CODEC.decode(reader, decoderContext);
+            default -> row.values[index] = BSON_VALUE_CODEC.decode(reader, decoderContext);
+        }
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Row value, EncoderContext encoderContext) {
+        throw fail();
+    }
+
+    @Override
+    public Class<Row> getEncoderClass() {
+        return Row.class;
+    }
+
+    /** The projected fields of a document, and of the documents embedded in it. */
+    private static final class DocumentFields {
+        /** The zero-based indexes of the fields in a {@link Row}. */
+        private final Map<String, Integer> valueIndexes;
+
+        private final Map<String, DocumentFields> embeddedDocuments;
+
+        DocumentFields() {
+            valueIndexes = new HashMap<>();
+            embeddedDocuments = new HashMap<>();
+        }
+
+        void add(String fieldPath, int index) {
+            var dotIndex = fieldPath.indexOf('.');
+            if (dotIndex < 0) {
+                valueIndexes.put(fieldPath, index);
+            } else {
+                embeddedDocuments
+                        .computeIfAbsent(fieldPath.substring(0, dotIndex), name -> new DocumentFields())
+                        .add(fieldPath.substring(dotIndex + 1), index);
+            }
+        }
+    }
+
+    /**
+     * The values of the projected fields of a document by their zero-based indexes. {@link BsonType#INT32},
+     * {@link BsonType#INT64}, {@link BsonType#DOUBLE}, {@link BsonType#BOOLEAN} values are stored unboxed, documents
+     * are stored as {@link org.bson.RawBsonDocument}s.
+     */
+    static final class Row {
+        private final @Nullable BsonType[] types;
+        private final long[] primitives;
+        private final @Nullable BsonValue[] values;
+
+        private Row(int size) {
+            types = new BsonType[size];
+            primitives = new long[size];
+            values = new BsonValue[size];
+        }
+
+        /** Returns {@code null} iff the field is missing. */
+        @Nullable BsonType getType(int index) {
+            return types[index];
+        }
+
+        /** Must be called only if the {@linkplain #getType(int) type} is {@link BsonType#INT32}. */
+        int getInt(int index) {
+            return (int) primitives[index];
+        }
+
+        /** Must be called only if the {@linkplain #getType(int) type} is {@link BsonType#INT64}. */
+        long getLong(int index) {
+            return primitives[index];
+        }
+
+        /** Must be called only if the {@linkplain #getType(int) type} is {@link BsonType#DOUBLE}. */
+        double getDouble(int index) {
+            return Double.longBitsToDouble(primitives[index]);
+        }
+
+        /** Must be called only if the {@linkplain #getType(int) type} is {@link BsonType#BOOLEAN}. */
+        boolean getBoolean(int index) {
+            return primitives[index] != 0;
+        }
+
+        /** Returns {@code null} iff the field is missing. */
+        @Nullable BsonValue getValue(int index) {
+            var type = types[index];
+            if (type == null) {
+                return null;
+            }
+            return switch (type) {
+                case INT32 -> new BsonInt32(getInt(index));
+                case INT64 -> new BsonInt64(getLong(index));
+                case DOUBLE -> new BsonDouble(getDouble(index));
+                case BOOLEAN -> BsonBoolean.valueOf(getBoolean(index));
+                default -> values[index];
+            };
+        }
+    }
+}
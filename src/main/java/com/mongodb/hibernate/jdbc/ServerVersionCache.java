@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.event.ClusterDescriptionChangedEvent;
+import com.mongodb.event.ClusterListener;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Holds the version of the MongoDB deployment, derived from the {@link ClusterDescription} the driver maintains in the
+ * background, so that {@link MongoConnection#getMetaData()} does not have to run any command. The
+ * {@link ClusterDescription} does not include the version, but the
+ * {@linkplain ServerDescription#getMaxWireVersion() maximum wire version} of a server determines its major and minor
+ * versions. If the servers have different wire versions, for example, during an upgrade, the lowest one is used.
+ *
+ * <p>The {@link ClusterDescription} of a {@linkplain ClusterConnectionMode#LOAD_BALANCED load-balanced} deployment
+ * does not include the wire version, in which case the version is unknown.
+ */
+final class ServerVersionCache implements ClusterListener {
+
+    /** The major and minor versions of the servers by their maximum wire version. */
+    private static final NavigableMap<Integer, ServerVersion> SERVER_VERSIONS = new TreeMap<>(Map.ofEntries(
+            serverVersion(6, 3, 6),
+            serverVersion(7, 4, 0),
+            serverVersion(8, 4, 2),
+            serverVersion(9, 4, 4),
+            serverVersion(10, 4, 7),
+            serverVersion(11, 4, 8),
+            serverVersion(12, 4, 9),
+            serverVersion(13, 5, 0),
+            serverVersion(14, 5, 1),
+            serverVersion(15, 5, 2),
+            serverVersion(16, 5, 3),
+            serverVersion(17, 6, 0),
+            serverVersion(18, 6, 1),
+            serverVersion(19, 6, 2),
+            serverVersion(20, 6, 3),
+            serverVersion(21, 7, 0),
+            serverVersion(22, 7, 1),
+            serverVersion(23, 7, 2),
+            serverVersion(24, 7, 3),
+            serverVersion(25, 8, 0),
+            serverVersion(26, 8, 1),
+            serverVersion(27, 8, 2)));
+
+    private final long discoveryTimeoutMillis;
+    private boolean loadBalanced;
+    private @Nullable ServerVersion serverVersion;
+
+    /**
+     * @param discoveryTimeoutMillis How long {@link #get()} waits for the driver to discover a server, negative if
+     *     indefinitely, like the server selection timeout of the driver.
+     */
+    ServerVersionCache(long discoveryTimeoutMillis) {
+        this.discoveryTimeoutMillis = discoveryTimeoutMillis;
+    }
+
+    @Override
+    public synchronized void clusterDescriptionChanged(ClusterDescriptionChangedEvent event) {
+        var newDescription = event.getNewDescription();
+        loadBalanced = newDescription.getConnectionMode() == ClusterConnectionMode.LOAD_BALANCED;
+        var minMaxWireVersion = newDescription.getServerDescriptions().stream()
+                .filter(ServerDescription::isOk)
+                .mapToInt(ServerDescription::getMaxWireVersion)
+                .filter(maxWireVersion -> maxWireVersion > 0)
+                .min();
+        serverVersion = minMaxWireVersion.isPresent() ? toServerVersion(minMaxWireVersion.getAsInt()) : null;
+        notifyAll();
+    }
+
+    /**
+     * Returns the version of the deployment, waiting for the driver to discover a server, if it has not yet.
+     *
+     * @return The version, or {@code null} if it is unknown because the deployment is
+     *     {@linkplain ClusterConnectionMode#LOAD_BALANCED load-balanced}.
+     * @throws SQLException If no server is discovered in time.
+     */
+    synchronized @Nullable ServerVersion get() throws SQLException {
+        var deadlineNanos = System.nanoTime() + MILLISECONDS.toNanos(discoveryTimeoutMillis);
+        while (serverVersion == null && !loadBalanced) {
+            try {
+                if (discoveryTimeoutMillis < 0) {
+                    wait();
+                } else {
+                    var remainingNanos = deadlineNanos - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        throw new SQLException(format(
+                                "Timed out after %d ms while waiting for a server to be discovered",
+                                discoveryTimeoutMillis));
+                    }
+                    NANOSECONDS.timedWait(this, remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("Interrupted while waiting for a server to be discovered", e);
+            }
+        }
+        return serverVersion;
+    }
+
+    /**
+     * A wire version newer than the known ones is mapped to the latest known version, which the version of the server
+     * is at least, and one older than them is mapped to the oldest known version, which the driver does not support
+     * anyway.
+     */
+    private static ServerVersion toServerVersion(int maxWireVersion) {
+        var entry = SERVER_VERSIONS.floorEntry(maxWireVersion);
+        return entry == null ? SERVER_VERSIONS.firstEntry().getValue() : entry.getValue();
+    }
+
+    private static Map.Entry<Integer, ServerVersion> serverVersion(int maxWireVersion, int major, int minor) {
+        return Map.entry(maxWireVersion, new ServerVersion(major + "." + minor, major, minor));
+    }
+
+    record ServerVersion(String versionText, int major, int minor) {}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.service;
+
+import com.mongodb.MongoException;
+import com.mongodb.hibernate.cfg.MongoConfigurator;
+import com.mongodb.hibernate.internal.Sealed;
+import java.util.function.Supplier;
+import org.hibernate.service.Service;
+
+/**
+ * A {@link Service} an application may use for retrying units of work that fail due to
+ * {@linkplain MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL transient transaction errors}, for example, write
+ * conflicts. It is available via {@link org.hibernate.service.ServiceRegistry#requireService(Class)} of the
+ * {@link org.hibernate.SessionFactory}:
+ *
+ * <pre>{@code
+ * var retrier = sessionFactory.getServiceRegistry().requireService(MongoTransactionRetrier.class);
+ * var book = retrier.execute(() -> sessionFactory.fromTransaction(session -> {
+ *     // do the work
+ *     ...
+ * }));
+ * }</pre>
+ *
+ * The retries are configured via {@link MongoConfigurator#transactionRetries(int, java.time.Duration)}, and are
+ * disabled by default.
+ */
+@Sealed
+public interface MongoTransactionRetrier extends Service {
+    /**
+     * Executes {@code unitOfWork}, and executes it again, after an exponentially growing randomized delay, each time it
+     * fails with an exception caused by a {@link MongoException} labeled as
+     * {@value MongoException#TRANSIENT_TRANSACTION_ERROR_LABEL}, until the number of retries is exhausted.
+     *
+     * <p>{@code unitOfWork} must start and end the transaction, rolling it back if it fails, as
+     * {@link org.hibernate.SessionFactory#fromTransaction(java.util.function.Function)} does.
+     *
+     * @param unitOfWork The unit of work to execute.
+     * @param <T> The type of the result.
+     * @return The result of {@code unitOfWork}.
+     */
+    <T> T execute(Supplier<T> unitOfWork);
+
+    /**
+     * Gets the number of retries done so far, including retries of
+     * {@linkplain com.mongodb.client.ClientSession#commitTransaction() commits} that fail with
+     * {@value MongoException#UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL}.
+     *
+     * @return The number of retries.
+     */
+    long getRetryCount();
+
+    /**
+     * Gets the number of times retrying was given up on because the number of retries was exhausted.
+     *
+     * @return The number of give-ups.
+     */
+    long getGiveUpCount();
+}
@@ -16,14 +16,19 @@
 
 package com.mongodb.hibernate.internal.cfg;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
+import java.time.Duration;
 import java.util.Map;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -67,6 +72,83 @@ class MongoConfigurationBuilderTests {
         assertEquals("testDbName2", config.databaseName());
     }
 
+    @Test
+    void cursorPrefetchBatches() {
+        assertAll(
+                () -> assertEquals(
+                        0,
+                        new MongoConfigurationBuilder()
+                                .databaseName("testDbName")
+                                .build()
+                                .cursorPrefetchBatches()),
+                () -> assertEquals(
+                        2,
+                        new MongoConfigurationBuilder()
+                                .databaseName("testDbName")
+                                .cursorPrefetchBatches(2)
+                                .build()
+                                .cursorPrefetchBatches()),
+                () -> assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new MongoConfigurationBuilder().cursorPrefetchBatches(-1)));
+    }
+
+    @Test
+    void transactionRetries() {
+        var config = new MongoConfigurationBuilder()
+                .databaseName("testDbName")
+                .transactionRetries(3, Duration.ofMillis(100))
+                .build();
+        assertAll(
+                () -> assertEquals(
+                        0,
+                        new MongoConfigurationBuilder()
+                                .databaseName("testDbName")
+                                .build()
+                                .transactionMaxRetries()),
+                () -> assertEquals(3, config.transactionMaxRetries()),
+                () -> assertEquals(Duration.ofMillis(100), config.transactionRetryMaxBackoff()),
+                () -> assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new MongoConfigurationBuilder().transactionRetries(-1, Duration.ZERO)),
+                () -> assertThrows(
+                        IllegalArgumentException.class,
+                        () -> new MongoConfigurationBuilder().transactionRetries(1, Duration.ofMillis(-1))));
+    }
+
+    @Test
+    void readOnlyReadPreference() {
+        var readPreference = ReadPreference.secondaryPreferred(90, SECONDS);
+        assertAll(
+                () -> assertEquals(
+                        ReadPreference.primary(),
+                        new MongoConfigurationBuilder()
+                                .databaseName("testDbName")
+                                .build()
+                                .readOnlyReadPreference()),
+                () -> assertEquals(
+                        readPreference,
+                        new MongoConfigurationBuilder()
+                                .databaseName("testDbName")
+                                .readOnlyReadPreference(readPreference)
+                                .build()
+                                .readOnlyReadPreference()));
+    }
+
+    @Test
+    void transactionStartOnFirstWrite() {
+        assertAll(
+                () -> assertFalse(new MongoConfigurationBuilder()
+                        .databaseName("testDbName")
+                        .build()
+                        .transactionStartOnFirstWrite()),
+                () -> assertTrue(new MongoConfigurationBuilder()
+                        .databaseName("testDbName")
+                        .transactionStartOnFirstWrite(true)
+                        .build()
+                        .transactionStartOnFirstWrite()));
+    }
+
     @Nested
     class IndividualTests {
         @Test
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.extension.service;
+
+import static com.mongodb.MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL;
+import static com.mongodb.MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ClientSession;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+class TransactionRetrierTests {
+
+    @Nested
+    @ExtendWith(MockitoExtension.class)
+    class CommitTests {
+        @Mock
+        private ClientSession clientSession;
+
+        @Test
+        void testRetriedOnUnknownCommitResult() {
+            var retrier = new TransactionRetrier(2, Duration.ZERO);
+            doThrow(labeledException(UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL))
+                    .doNothing()
+                    .when(clientSession)
+                    .commitTransaction();
+            retrier.commit(clientSession);
+            verify(clientSession, times(2)).commitTransaction();
+            assertAll(() -> assertEquals(1, retrier.getRetryCount()), () -> assertEquals(0, retrier.getGiveUpCount()));
+        }
+
+        @Test
+        void testGivenUpWhenRetriesExhausted() {
+            var retrier = new TransactionRetrier(2, Duration.ZERO);
+            var failure = labeledException(UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL);
+            doThrow(failure).when(clientSession).commitTransaction();
+            assertSame(failure, assertThrows(MongoException.class, () -> retrier.commit(clientSession)));
+            verify(clientSession, times(3)).commitTransaction();
+            assertAll(() -> assertEquals(2, retrier.getRetryCount()), () -> assertEquals(1, retrier.getGiveUpCount()));
+        }
+
+        @Test
+        void testNotRetriedOnOtherErrors() {
+            var retrier = new TransactionRetrier(2, Duration.ZERO);
+            doThrow(labeledException(TRANSIENT_TRANSACTION_ERROR_LABEL))
+                    .when(clientSession)
+                    .commitTransaction();
+            assertThrows(MongoException.class, () -> retrier.commit(clientSession));
+            verify(clientSession).commitTransaction();
+            assertEquals(0, retrier.getRetryCount());
+        }
+
+        @Test
+        void testNotRetriedWhenDisabled() {
+            var retrier = new TransactionRetrier(0, Duration.ZERO);
+            doThrow(labeledException(UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL))
+                    .when(clientSession)
+                    .commitTransaction();
+            assertThrows(MongoException.class, () -> retrier.commit(clientSession));
+            assertAll(() -> assertEquals(0, retrier.getRetryCount()), () -> assertEquals(0, retrier.getGiveUpCount()));
+        }
+    }
+
+    @Nested
+    class ExecuteTests {
+        @Test
+        void testRetriedOnTransientErrorCause() {
+            var retrier = new TransactionRetrier(3, Duration.ofMillis(1));
+            var attempts = new AtomicInteger();
+            var result = retrier.execute(() -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new RuntimeException(new SQLException(labeledException(TRANSIENT_TRANSACTION_ERROR_LABEL)));
+                }
+                return "done";
+            });
+            assertAll(
+                    () -> assertEquals("done", result),
+                    () -> assertEquals(3, attempts.get()),
+                    () -> assertEquals(2, retrier.getRetryCount()),
+                    () -> assertEquals(0, retrier.getGiveUpCount()));
+        }
+
+        @Test
+        void testNotRetriedOnOtherErrors() {
+            var retrier = new TransactionRetrier(3, Duration.ZERO);
+            var attempts = new AtomicInteger();
+            assertThrows(IllegalStateException.class, () -> retrier.execute(() -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException();
+            }));
+            assertAll(() -> assertEquals(1, attempts.get()), () -> assertEquals(0, retrier.getRetryCount()));
+        }
+    }
+
+    private static MongoException labeledException(String label) {
+        var result = new MongoException("test");
+        result.addLabel(label);
+        return result;
+    }
+}
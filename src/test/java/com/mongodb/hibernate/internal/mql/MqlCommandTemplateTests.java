@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.mql;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mongodb.hibernate.internal.mql.MqlCommandTemplate.ParameterSlot;
+import java.util.List;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.Test;
+
+class MqlCommandTemplateTests {
+    @Test
+    void parameterSlots() {
+        var template = new MqlCommandTemplate(RawBsonDocument.parse(
+                """
+                {
+                    update: "books",
+                    updates: [
+                        {
+                            q: {_id: {$eq: {$undefined: true}}},
+                            u: {$set: {tags: [{$undefined: true}, "fixed"]}}
+                        }
+                    ]
+                }"""));
+        assertAll(
+                () -> assertFalse(template.isComparingWithNullValues()),
+                () -> assertEquals(
+                        List.of(new ParameterSlot(true, false), new ParameterSlot(false, false)),
+                        template.getParameterSlots()));
+    }
+
+    @Test
+    void bind() {
+        var template = new MqlCommandTemplate(RawBsonDocument.parse(
+                """
+                {
+                    update: "books",
+                    updates: [
+                        {
+                            q: {_id: {$eq: {$undefined: true}}},
+                            u: {$set: {tags: [{$undefined: true}, "fixed"], author: {name: "Leo"}, years: [1865, 1869]}}
+                        }
+                    ]
+                }"""));
+        var parameterValues = List.of(new BsonInt32(1), new BsonString("classic"));
+        var buffer = new BasicOutputBuffer();
+        assertEquals(
+                BsonDocument.parse(
+                        """
+                        {
+                            update: "books",
+                            updates: [
+                                {
+                                    q: {_id: {$eq: 1}},
+                                    u: {$set: {tags: ["classic", "fixed"], author: {name: "Leo"}, years: [1865, 1869]}}
+                                }
+                            ]
+                        }"""),
+                template.bind(parameterValues::get, buffer));
+        assertEquals(
+                BsonDocument.parse("{update: 'books', updates: [{q: {_id: {$eq: 2}}, u: {$set: {tags: ['modern', "
+                        + "'fixed'], author: {name: 'Leo'}, years: [1865, 1869]}}}]}"),
+                template.bind(List.of(new BsonInt32(2), new BsonString("modern"))::get, buffer));
+    }
+
+    @Test
+    void bindCopiesValuesOfAllTypes() {
+        var valuesOfAllTypes =
+                """
+                [
+                    1.5, "str", {$binary: {base64: "AQI=", subType: "00"}}, {$oid: "000000000000000000000001"}, true,
+                    {$date: {$numberLong: "1"}}, null, {$regularExpression: {pattern: "^a", options: "i"}},
+                    1, {$timestamp: {t: 1, i: 2}}, {$numberLong: "2"}, {$numberDecimal: "3.5"}, {$minKey: 1},
+                    {$maxKey: 1}, {$symbol: "sym"}, {$code: "f()"}, [[1, {a: [2]}], []], {a: {b: null}}
+                ]""";
+        var template = new MqlCommandTemplate(RawBsonDocument.parse(
+                "{insert: 'books', documents: [{_id: {$undefined: true}, values: %s}]}".formatted(valuesOfAllTypes)));
+        assertEquals(
+                BsonDocument.parse("{insert: 'books', documents: [{_id: 1, values: %s}]}".formatted(valuesOfAllTypes)),
+                template.bind(List.of(new BsonInt32(1))::get, new BasicOutputBuffer()));
+    }
+
+    @Test
+    void bindWithoutParameters() {
+        var command = RawBsonDocument.parse("{find: 'books'}");
+        assertSame(command, new MqlCommandTemplate(command).bind(List.<BsonValue>of()::get, new BasicOutputBuffer()));
+    }
+
+    @Test
+    void comparingWithNullValues() {
+        var template = new MqlCommandTemplate(RawBsonDocument.parse(
+                "{aggregate: 'books', pipeline: [{$match: {$or: [{title: {$ne: null}}, {_id: {$eq: {$undefined: true}}}]}}]}"));
+        assertTrue(template.isComparingWithNullValues());
+    }
+
+    @Test
+    void comparingWithNullElementsOfArrayOperand() {
+        var template = new MqlCommandTemplate(RawBsonDocument.parse(
+                "{aggregate: 'books', pipeline: [{$match: {title: {$nin: ['War and Peace', null]}}}]}"));
+        assertTrue(template.isComparingWithNullValues());
+    }
+
+    @Test
+    void parameterSlotsOfArrayOperandElements() {
+        var template = new MqlCommandTemplate(RawBsonDocument.parse(
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [{$match: {
+                        _id: {$in: [1, {$undefined: true}]},
+                        tags: {$all: [{$undefined: true}]},
+                        title: {$nin: {$undefined: true}}
+                    }}]
+                }"""));
+        assertAll(
+                () -> assertFalse(template.isComparingWithNullValues()),
+                () -> assertEquals(
+                        List.of(
+                                new ParameterSlot(true, false),
+                                new ParameterSlot(false, false),
+                                new ParameterSlot(true, true)),
+                        template.getParameterSlots()));
+    }
+}
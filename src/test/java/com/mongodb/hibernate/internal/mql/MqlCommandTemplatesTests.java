@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.mql;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.SQLException;
+import java.sql.SQLSyntaxErrorException;
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.junit.jupiter.api.Test;
+
+class MqlCommandTemplatesTests {
+    @Test
+    void registerReturnsMqlOfCommand() throws SQLException {
+        var templates = new MqlCommandTemplates(1);
+        var command = RawBsonDocument.parse("{delete: 'books', deletes: [{q: {_id: {$undefined: true}}, limit: 0}]}");
+        var mql = templates.register(command);
+        assertAll(
+                () -> assertEquals(BsonDocument.parse(mql), command),
+                () -> assertSame(command, templates.get(mql).getCommand()),
+                () -> assertEquals(1, templates.getHitCount()),
+                () -> assertEquals(0, templates.getMissCount()));
+    }
+
+    @Test
+    void getParsesUnknownMql() throws SQLException {
+        var templates = new MqlCommandTemplates(1);
+        var mql = "{find: 'books'}";
+        var template = templates.get(mql);
+        assertAll(
+                () -> assertEquals(BsonDocument.parse(mql), template.getCommand()),
+                () -> assertSame(template, templates.get(mql)),
+                () -> assertEquals(1, templates.getHitCount()),
+                () -> assertEquals(1, templates.getMissCount()));
+    }
+
+    @Test
+    void getFailsOnInvalidMql() {
+        assertThrows(SQLSyntaxErrorException.class, () -> new MqlCommandTemplates(1).get("{find: "));
+    }
+
+    @Test
+    void leastRecentlyUsedTemplateIsEvicted() throws SQLException {
+        var templates = new MqlCommandTemplates(2);
+        var template1 = templates.get("{find: 'books'}");
+        var template2 = templates.get("{find: 'authors'}");
+        templates.get("{find: 'books'}");
+        templates.get("{find: 'publishers'}");
+        assertAll(
+                () -> assertEquals(1, templates.getEvictionCount()),
+                () -> assertSame(template1, templates.get("{find: 'books'}")),
+                () -> assertNotSame(template2, templates.get("{find: 'authors'}")));
+    }
+}
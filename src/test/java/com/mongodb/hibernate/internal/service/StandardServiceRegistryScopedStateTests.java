@@ -18,8 +18,10 @@ package com.mongodb.hibernate.internal.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.mongodb.hibernate.internal.extension.service.StandardServiceRegistryScopedState;
+import com.mongodb.hibernate.service.MongoTransactionRetrier;
 import com.mongodb.hibernate.service.spi.MongoConfigurationContributor;
 import java.util.ArrayList;
 import org.hibernate.boot.MetadataSources;
@@ -42,6 +44,17 @@ class StandardServiceRegistryScopedStateTests {
         }
     }
 
+    @Test
+    void mongoTransactionRetrierIsScopedToStandardServiceRegistry() {
+        try (var standardServiceRegistry = new StandardServiceRegistryBuilder().build()) {
+            assertSame(
+                    standardServiceRegistry
+                            .requireService(StandardServiceRegistryScopedState.class)
+                            .getTransactionRetrier(),
+                    standardServiceRegistry.requireService(MongoTransactionRetrier.class));
+        }
+    }
+
     @Test
     @DisplayName(
             "MongoConfigurationContributor is called once per StandardServiceRegistry, different MongoConfigurator instances passed")
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class LikePatternsTests {
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            value = {
+                "abc%|^abc",
+                "%abc|abc\\z",
+                "%abc%|abc",
+                "abc|^abc\\z",
+                "%|^",
+                "%%a|a\\z",
+                "a_c|^a.c\\z",
+                "_%|^.",
+                "a.b*c%|^a\\.b\\*c",
+            })
+    void testToRegex(String pattern, String expectedRegex) {
+        assertEquals(expectedRegex, LikePatterns.toRegex(pattern, null));
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+            delimiter = '|',
+            value = {
+                "50!%|^50%\\z",
+                "a!_b%|^a_b",
+                "!!%|^!",
+            })
+    void testToRegexWithEscapeCharacter(String pattern, String expectedRegex) {
+        assertEquals(expectedRegex, LikePatterns.toRegex(pattern, '!'));
+    }
+
+    @Test
+    void testToRegexEmptyPattern() {
+        assertEquals("^\\z", LikePatterns.toRegex("", null));
+    }
+
+    @Test
+    void testToRegexEndingWithEscapeCharacter() {
+        assertThrows(FeatureNotSupportedException.class, () -> LikePatterns.toRegex("abc!", '!'));
+    }
+}
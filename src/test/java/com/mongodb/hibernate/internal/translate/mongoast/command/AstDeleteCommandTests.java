@@ -23,23 +23,26 @@ import com.mongodb.hibernate.internal.translate.mongoast.AstLiteralValue;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
 import org.bson.BsonString;
-import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 
 class AstDeleteCommandTests {
 
-    @Test
-    void testRendering() {
+    @ParameterizedTest
+    @CsvSource({"true,0", "false,1"})
+    void testRendering(boolean multi, int expectedLimit) {
 
         var collection = "books";
         var filter = new AstFieldOperationFilter(
                 "isbn", new AstComparisonFilterOperation(EQ, new AstLiteralValue(new BsonString("978-3-16-148410-0"))));
 
-        var deleteCommand = new AstDeleteCommand(collection, filter);
+        var deleteCommand = new AstDeleteCommand(collection, filter, multi);
 
         var expectedJson =
                 """
-                {"delete": "books", "deletes": [{"q": {"isbn": {"$eq": "978-3-16-148410-0"}}, "limit": {"$numberInt": "0"}}]}\
-                """;
+                {"delete": "books", "deletes": [{"q": {"isbn": {"$eq": "978-3-16-148410-0"}}, "limit": {"$numberInt": "%d"}}]}\
+                """
+                .formatted(expectedLimit);
 
         assertRendering(expectedJson, deleteCommand);
     }
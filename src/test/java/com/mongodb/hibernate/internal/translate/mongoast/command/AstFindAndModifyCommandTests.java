@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.hibernate.internal.translate.mongoast.command;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator.EQ;
+import static com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilterOperator.AND;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteralValue;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstLiteralExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstProjectStageIncludeSpecification;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstVariableExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstExistsFilterOperation;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
+import com.mongodb.hibernate.internal.translate.mongoast.filter.AstLogicalFilter;
+import java.util.List;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.junit.jupiter.api.Test;
+
+class AstFindAndModifyCommandTests {
+
+    @Test
+    void testRendering() {
+        var filter = new AstFieldOperationFilter(
+                "_id", new AstComparisonFilterOperation(EQ, new AstLiteralValue(new BsonInt64(12345L))));
+        var update = new AstPipelineUpdate(List.of(
+                new AstComputedFieldUpdate(
+                        "title", new AstLiteralExpression(new AstLiteralValue(new BsonString("War and Peace")))),
+                new AstComputedFieldUpdate("updatedAt", AstVariableExpression.NOW)));
+
+        var findAndModifyCommand = new AstFindAndModifyCommand(
+                "books", filter, update, false, List.of(new AstProjectStageIncludeSpecification("updatedAt")));
+
+        final String expectedJson =
+                """
+                {"findAndModify": "books", "query": {"_id": {"$eq": {"$numberLong": "12345"}}}, "update": [{"$set": {"title": {"$literal": "War and Peace"}, "updatedAt": "$$NOW"}}], "new": true, "fields": {"updatedAt": true}}\
+                """;
+        assertRendering(expectedJson, findAndModifyCommand);
+    }
+
+    @Test
+    void testRenderingUpsert() {
+        var filter = new AstLogicalFilter(
+                AND,
+                List.of(
+                        new AstFieldOperationFilter(
+                                "_id",
+                                new AstComparisonFilterOperation(EQ, new AstLiteralValue(new BsonInt64(12345L)))),
+                        new AstFieldOperationFilter("_id", new AstExistsFilterOperation(false))));
+        var update = new AstPipelineUpdate(List.of(new AstComputedFieldUpdate("createdAt", AstVariableExpression.NOW)));
+
+        var findAndModifyCommand = new AstFindAndModifyCommand(
+                "books", filter, update, true, List.of(new AstProjectStageIncludeSpecification("createdAt")));
+
+        final String expectedJson =
+                """
+                {"findAndModify": "books", "query": {"$and": [{"_id": {"$eq": {"$numberLong": "12345"}}}, {"_id": {"$exists": false}}]}, "update": [{"$set": {"createdAt": "$$NOW"}}], "new": true, "upsert": true, "fields": {"createdAt": true}}\
+                """;
+        assertRendering(expectedJson, findAndModifyCommand);
+    }
+}
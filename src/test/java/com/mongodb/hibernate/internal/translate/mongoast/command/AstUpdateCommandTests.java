@@ -20,6 +20,9 @@ import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertion
 
 import com.mongodb.hibernate.internal.translate.mongoast.AstFieldUpdate;
 import com.mongodb.hibernate.internal.translate.mongoast.AstLiteralValue;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConcatExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstFieldPathExpression;
+import com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstLiteralExpression;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperation;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstComparisonFilterOperator;
 import com.mongodb.hibernate.internal.translate.mongoast.filter.AstFieldOperationFilter;
@@ -44,7 +47,8 @@ class AstUpdateCommandTests {
                 new AstComparisonFilterOperation(
                         AstComparisonFilterOperator.EQ, new AstLiteralValue(new BsonInt64(12345L))));
 
-        var updateCommand = new AstUpdateCommand(collection, filter, List.of(astFieldUpdate1, astFieldUpdate2));
+        var updateCommand = new AstUpdateCommand(
+                collection, filter, new AstSetUpdate(List.of(astFieldUpdate1, astFieldUpdate2)), true, false);
 
         final String expectedJson =
                 """
@@ -52,4 +56,45 @@ class AstUpdateCommandTests {
                 """;
         assertRendering(expectedJson, updateCommand);
     }
+
+    @Test
+    void testRenderingPipelineUpdate() {
+        var filter = new AstFieldOperationFilter(
+                "_id",
+                new AstComparisonFilterOperation(
+                        AstComparisonFilterOperator.EQ, new AstLiteralValue(new BsonInt64(12345L))));
+        var pipelineUpdate = new AstPipelineUpdate(List.of(
+                new AstComputedFieldUpdate(
+                        "title",
+                        new AstConcatExpression(List.of(
+                                new AstFieldPathExpression("title"),
+                                new AstLiteralExpression(new AstLiteralValue(new BsonString("!")))))),
+                new AstComputedFieldUpdate("author", new AstFieldPathExpression("translator"))));
+
+        var updateCommand = new AstUpdateCommand("books", filter, pipelineUpdate, true, false);
+
+        final String expectedJson =
+                """
+                {"update": "books", "updates": [{"q": {"_id": {"$eq": {"$numberLong": "12345"}}}, "u": [{"$set": {"title": {"$concat": ["$title", {"$literal": "!"}]}, "author": "$translator"}}], "multi": true}]}\
+                """;
+        assertRendering(expectedJson, updateCommand);
+    }
+
+    @Test
+    void testRenderingUpsert() {
+        var filter = new AstFieldOperationFilter(
+                "_id",
+                new AstComparisonFilterOperation(
+                        AstComparisonFilterOperator.EQ, new AstLiteralValue(new BsonInt64(12345L))));
+        var update = new AstSetUpdate(
+                List.of(new AstFieldUpdate("title", new AstLiteralValue(new BsonString("War and Peace")))));
+
+        var updateCommand = new AstUpdateCommand("books", filter, update, false, true);
+
+        final String expectedJson =
+                """
+                {"update": "books", "updates": [{"q": {"_id": {"$eq": {"$numberLong": "12345"}}}, "u": {"$set": {"title": "War and Peace"}}, "multi": false, "upsert": true}]}\
+                """;
+        assertRendering(expectedJson, updateCommand);
+    }
 }
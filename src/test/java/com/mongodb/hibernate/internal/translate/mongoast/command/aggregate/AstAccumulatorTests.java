@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertElementRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.COUNT;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.SUM;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstConversionOperator.TO_LONG;
+
+import org.junit.jupiter.api.Test;
+
+class AstAccumulatorTests {
+
+    @Test
+    void testRendering() {
+        var astAccumulator = new AstAccumulator(
+                "sum(publishYear)",
+                SUM,
+                new AstConversionExpression(TO_LONG, new AstFieldPathExpression("publishYear")));
+
+        var expectedJson =
+                """
+                {"sum(publishYear)": {"$sum": {"$toLong": "$publishYear"}}}\
+                """;
+        assertElementRendering(expectedJson, astAccumulator);
+    }
+
+    @Test
+    void testRenderingOfCountingAllDocuments() {
+        var astAccumulator = new AstAccumulator("count(*)", COUNT, null);
+
+        var expectedJson =
+                """
+                {"count(*)": {"$sum": {"$numberLong": "1"}}}\
+                """;
+        assertElementRendering(expectedJson, astAccumulator);
+    }
+
+    @Test
+    void testRenderingOfCountingNonNullValues() {
+        var astAccumulator = new AstAccumulator("count(title)", COUNT, new AstFieldPathExpression("title"));
+
+        var expectedJson =
+                """
+                {"count(title)": {"$sum": {"$cond": [{"$gt": ["$title", null]}, \
+                {"$numberLong": "1"}, {"$numberLong": "0"}]}}}\
+                """;
+        assertElementRendering(expectedJson, astAccumulator);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.COUNT;
+import static com.mongodb.hibernate.internal.translate.mongoast.command.aggregate.AstAccumulatorOperator.FIRST;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AstGroupStageTests {
+
+    @Test
+    void testRenderingWithoutKeyFields() {
+        var astGroupStage = new AstGroupStage(List.of(), List.of(new AstAccumulator("count(*)", COUNT, null)));
+
+        var expectedJson =
+                """
+                {"$group": {"_id": null, "count(*)": {"$sum": {"$numberLong": "1"}}}}\
+                """;
+        assertRendering(expectedJson, astGroupStage);
+    }
+
+    @Test
+    void testRenderingWithSingleKeyField() {
+        var astGroupStage = new AstGroupStage(
+                List.of("title"),
+                List.of(
+                        new AstAccumulator("title", FIRST, new AstFieldPathExpression("title")),
+                        new AstAccumulator("count(*)", COUNT, null)));
+
+        var expectedJson =
+                """
+                {"$group": {"_id": "$title", "title": {"$first": "$title"}, \
+                "count(*)": {"$sum": {"$numberLong": "1"}}}}\
+                """;
+        assertRendering(expectedJson, astGroupStage);
+    }
+
+    @Test
+    void testRenderingWithMultipleKeyFields() {
+        var astGroupStage = new AstGroupStage(List.of("title", "publishYear"), List.of());
+
+        var expectedJson =
+                """
+                {"$group": {"_id": {"title": "$title", "publishYear": "$publishYear"}}}\
+                """;
+        assertRendering(expectedJson, astGroupStage);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.command.aggregate;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+import static java.lang.String.format;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class AstUnwindStageTests {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testRendering(boolean preserveNullAndEmptyArrays) {
+        var astUnwindStage = new AstUnwindStage("a1_0", preserveNullAndEmptyArrays);
+
+        var expectedJson = format(
+                """
+                {"$unwind": {"path": "$a1_0", "preserveNullAndEmptyArrays": %s}}\
+                """,
+                preserveNullAndEmptyArrays);
+        assertRendering(expectedJson, astUnwindStage);
+    }
+}
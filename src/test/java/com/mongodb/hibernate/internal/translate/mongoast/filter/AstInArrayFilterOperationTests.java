@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.filter;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteralValue;
+import com.mongodb.hibernate.internal.translate.mongoast.AstParameterMarker;
+import java.util.List;
+import org.bson.BsonArray;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+
+class AstInArrayFilterOperationTests {
+
+    @Test
+    void testRendering() {
+        var operation = new AstInArrayFilterOperation(
+                new AstLiteralValue(new BsonArray(List.of(new BsonInt32(1), new BsonInt32(2)))));
+
+        var expectedJson = """
+                           {"$in": [{"$numberInt": "1"}, {"$numberInt": "2"}]}\
+                           """;
+        assertRendering(expectedJson, operation);
+    }
+
+    @Test
+    void testRenderingParameterMarker() {
+        var operation = new AstInArrayFilterOperation(AstParameterMarker.INSTANCE);
+
+        var expectedJson = """
+                           {"$in": {"$undefined": true}}\
+                           """;
+        assertRendering(expectedJson, operation);
+    }
+}
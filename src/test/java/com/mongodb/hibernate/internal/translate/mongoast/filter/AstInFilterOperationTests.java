@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.internal.translate.mongoast.filter;
+
+import static com.mongodb.hibernate.internal.translate.mongoast.AstNodeAssertions.assertRendering;
+
+import com.mongodb.hibernate.internal.translate.mongoast.AstLiteralValue;
+import java.util.List;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class AstInFilterOperationTests {
+
+    @ParameterizedTest
+    @EnumSource(AstInFilterOperator.class)
+    void testRendering(AstInFilterOperator operator) {
+        var operation = new AstInFilterOperation(
+                operator, List.of(new AstLiteralValue(new BsonInt32(1)), new AstLiteralValue(new BsonInt32(2))));
+
+        var expectedJson = """
+                           {"%s": [{"$numberInt": "1"}, {"$numberInt": "2"}]}\
+                           """
+                .formatted(operator.getOperatorName());
+        assertRendering(expectedJson, operation);
+    }
+
+    @Test
+    void testRenderingEmpty() {
+        var operation = new AstInFilterOperation(AstInFilterOperator.IN, List.of());
+
+        var expectedJson = """
+                           {"$in": []}\
+                           """;
+        assertRendering(expectedJson, operation);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ClientSessionFactoryTests {
+
+    @Mock
+    private MongoClient mongoClient;
+
+    @Mock
+    private ClientSession clientSession;
+
+    private ClientSessionFactory clientSessionFactory;
+
+    @BeforeEach
+    void beforeEach() {
+        clientSessionFactory = new ClientSessionFactory(mongoClient);
+        doReturn(clientSession).when(mongoClient).startSession();
+    }
+
+    @Test
+    void testSessionStarted() {
+        assertSame(clientSession, clientSessionFactory.startSession());
+
+        verify(mongoClient).startSession();
+        verify(clientSession, never()).getServerSession();
+        assertAll(
+                () -> assertEquals(1, clientSessionFactory.getStartCount()),
+                () -> assertEquals(0, clientSessionFactory.getCloseCount()));
+    }
+
+    @Test
+    void testSessionClosed() {
+        clientSessionFactory.closeSession(clientSessionFactory.startSession());
+        clientSessionFactory.startSession();
+
+        verify(clientSession).close();
+        assertAll(
+                () -> assertEquals(2, clientSessionFactory.getStartCount()),
+                () -> assertEquals(1, clientSessionFactory.getCloseCount()));
+    }
+}
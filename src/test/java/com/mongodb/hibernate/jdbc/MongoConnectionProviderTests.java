@@ -17,15 +17,18 @@
 package com.mongodb.hibernate.jdbc;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.ReadPreference;
 import com.mongodb.client.internal.MongoClientImpl;
 import com.mongodb.hibernate.internal.BuildConfig;
 import com.mongodb.hibernate.internal.cfg.MongoConfiguration;
 import com.mongodb.hibernate.internal.extension.service.StandardServiceRegistryScopedState;
 import java.sql.SQLException;
+import java.time.Duration;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,6 +53,30 @@ class MongoConnectionProviderTests {
         }
     }
 
+    @Test
+    void testSessionStatistics() throws SQLException {
+        connectionProvider.getConnection().close();
+        try (var connection = connectionProvider.getConnection()) {
+            var statistics = connectionProvider.unwrap(MongoSessionStatistics.class);
+            assertAll(
+                    () -> assertEquals(2, statistics.getStartCount()),
+                    () -> assertEquals(1, statistics.getCloseCount()));
+        }
+    }
+
+    @Test
+    void testCommandTemplateCacheStatistics() throws SQLException {
+        try (var connection = connectionProvider.getConnection()) {
+            connection.prepareStatement("{find: 'books'}").close();
+            connection.prepareStatement("{find: 'books'}").close();
+        }
+        var statistics = connectionProvider.unwrap(MongoCommandTemplateCacheStatistics.class);
+        assertAll(
+                () -> assertEquals(1, statistics.getHitCount()),
+                () -> assertEquals(1, statistics.getMissCount()),
+                () -> assertEquals(0, statistics.getEvictionCount()));
+    }
+
     @Test
     void testMongoDriverInformationPopulated() {
         var mongoClient = connectionProvider.getMongoClient();
@@ -64,7 +91,12 @@ class MongoConnectionProviderTests {
                 MongoClientSettings.builder()
                         .applyConnectionString(new ConnectionString("mongodb://host"))
                         .build(),
-                "db");
+                "db",
+                0,
+                0,
+                Duration.ZERO,
+                false,
+                ReadPreference.primary());
         var standardServiceRegistryScopedState = new StandardServiceRegistryScopedState(mongoConfiguration);
         var result = new MongoConnectionProvider();
         result.injectStandardServiceRegistryScopedState(standardServiceRegistryScopedState);
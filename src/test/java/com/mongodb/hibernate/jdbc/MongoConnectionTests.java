@@ -16,6 +16,7 @@
 
 package com.mongodb.hibernate.jdbc;
 
+import static com.mongodb.connection.ServerConnectionState.CONNECTED;
 import static com.mongodb.hibernate.internal.MongoConstants.MONGO_DBMS_NAME;
 import static com.mongodb.hibernate.internal.MongoConstants.MONGO_JDBC_DRIVER_NAME;
 import static java.sql.ResultSet.CONCUR_READ_ONLY;
@@ -27,9 +28,9 @@ import static org.hibernate.cfg.AvailableSettings.JAKARTA_JDBC_URL;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
@@ -39,13 +40,25 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ClusterType;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.connection.ServerType;
+import com.mongodb.event.ClusterDescriptionChangedEvent;
 import com.mongodb.hibernate.internal.cfg.MongoConfigurationBuilder;
+import com.mongodb.hibernate.internal.extension.service.StandardServiceRegistryScopedState;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -67,13 +80,26 @@ class MongoConnectionTests {
     @Mock
     private MongoClient mongoClient;
 
+    @Mock
+    private ClientSessionFactory clientSessionFactory;
+
+    @Mock
+    private ExecutorService cursorPrefetchExecutor;
+
+    private ServerVersionCache serverVersionCache;
+
     private MongoConnection mongoConnection;
 
     @BeforeEach
     void beforeEach() {
+        serverVersionCache = new ServerVersionCache(0);
         mongoConnection = new MongoConnection(
-                new MongoConfigurationBuilder(Map.of(JAKARTA_JDBC_URL, "mongodb://host/db")).build(),
+                new StandardServiceRegistryScopedState(
+                        new MongoConfigurationBuilder(Map.of(JAKARTA_JDBC_URL, "mongodb://host/db")).build()),
                 mongoClient,
+                clientSessionFactory,
+                serverVersionCache,
+                cursorPrefetchExecutor,
                 clientSession);
     }
 
@@ -85,17 +111,31 @@ class MongoConnectionTests {
             mongoConnection.close();
             assertTrue(mongoConnection.isClosed());
 
-            verify(clientSession).close();
+            verify(clientSessionFactory).closeSession(clientSession);
+
+            mongoConnection.close();
+
+            verifyNoMoreInteractions(clientSessionFactory, clientSession);
+        }
+
+        @Test
+        void testOpenStatementsClosed() throws SQLException {
+            var statement = mongoConnection.createStatement();
+            var preparedStatement = mongoConnection.prepareStatement("{}");
+            mongoConnection.createStatement().close();
 
             mongoConnection.close();
 
-            verifyNoMoreInteractions(clientSession);
+            assertAll(
+                    () -> assertTrue(statement.isClosed()),
+                    () -> assertTrue(preparedStatement.isClosed()),
+                    () -> verify(clientSessionFactory).closeSession(clientSession));
         }
 
         @Test
         void testClosedWhenSessionClosingThrowsException() {
 
-            doThrow(new RuntimeException()).when(clientSession).close();
+            doThrow(new RuntimeException()).when(clientSessionFactory).closeSession(clientSession);
 
             assertThrows(SQLException.class, () -> mongoConnection.close());
 
@@ -103,6 +143,15 @@ class MongoConnectionTests {
         }
     }
 
+    @Test
+    void testQueryReadPreferenceOfReadOnlyConnection() throws SQLException {
+        assertNull(mongoConnection.getQueryReadPreference());
+        mongoConnection.setReadOnly(true);
+        assertAll(
+                () -> assertTrue(mongoConnection.isReadOnly()),
+                () -> assertEquals(ReadPreference.primary(), mongoConnection.getQueryReadPreference()));
+    }
+
     @Test
     void testCheckClosed() throws SQLException {
         mongoConnection.close();
@@ -134,6 +183,8 @@ class MongoConnectionTests {
         assertAll(
                 () -> assertThrowsClosedException(() -> mongoConnection.setAutoCommit(false)),
                 () -> assertThrowsClosedException(mongoConnection::getAutoCommit),
+                () -> assertThrowsClosedException(() -> mongoConnection.setReadOnly(true)),
+                () -> assertThrowsClosedException(mongoConnection::isReadOnly),
                 () -> assertThrowsClosedException(mongoConnection::rollback),
                 () -> assertThrowsClosedException(mongoConnection::createStatement),
                 () -> assertThrowsClosedException(() -> mongoConnection.prepareStatement(exampleUpdateMql)),
@@ -304,7 +355,34 @@ class MongoConnectionTests {
         @Test
         @DisplayName("Happy path for MongoDatabaseMetaData fetching")
         void testSuccess() {
+            changeClusterDescription(
+                    ClusterConnectionMode.SINGLE,
+                    ServerDescription.builder()
+                            .address(new ServerAddress())
+                            .state(CONNECTED)
+                            .ok(true)
+                            .maxWireVersion(25)
+                            .build());
+
+            var metaData = assertDoesNotThrow(() -> mongoConnection.getMetaData());
 
+            assertAll(
+                    () -> assertEquals(MONGO_DBMS_NAME, metaData.getDatabaseProductName()),
+                    () -> assertEquals(MONGO_JDBC_DRIVER_NAME, metaData.getDriverName()),
+                    () -> assertEquals("8.0", metaData.getDatabaseProductVersion()),
+                    () -> assertEquals(8, metaData.getDatabaseMajorVersion()),
+                    () -> assertEquals(0, metaData.getDatabaseMinorVersion()));
+            verify(mongoClient, never()).getDatabase(eq("admin"));
+        }
+
+        @Test
+        void testSQLExceptionThrownWhenNoServerDiscovered() {
+            assertThrows(SQLException.class, () -> mongoConnection.getMetaData());
+        }
+
+        @Test
+        void testLoadBalancedDeploymentVersionFetched() {
+            changeLoadBalancedClusterDescription();
             doReturn(mongoDatabase).when(mongoClient).getDatabase(eq("admin"));
             var commandResultJson =
                     """
@@ -316,14 +394,11 @@ class MongoConnectionTests {
             var commandResultDoc = Document.parse(commandResultJson);
             doReturn(commandResultDoc)
                     .when(mongoDatabase)
-                    .runCommand(any(ClientSession.class), argThat(arg -> "buildInfo"
-                            .equals(arg.toBsonDocument().getFirstKey())));
+                    .runCommand(argThat(arg -> "buildInfo".equals(arg.toBsonDocument().getFirstKey())));
 
             var metaData = assertDoesNotThrow(() -> mongoConnection.getMetaData());
 
             assertAll(
-                    () -> assertEquals(MONGO_DBMS_NAME, metaData.getDatabaseProductName()),
-                    () -> assertEquals(MONGO_JDBC_DRIVER_NAME, metaData.getDriverName()),
                     () -> assertEquals("8.0.1", metaData.getDatabaseProductVersion()),
                     () -> assertEquals(8, metaData.getDatabaseMajorVersion()),
                     () -> assertEquals(0, metaData.getDatabaseMinorVersion()));
@@ -332,13 +407,32 @@ class MongoConnectionTests {
         @Test
         @DisplayName("SQLException is thrown when MongoConnection#getMetaData() failed while interacting with db")
         void testSQLExceptionThrownWhenMetaDataFetchingFailed() {
+            changeLoadBalancedClusterDescription();
             doReturn(mongoDatabase).when(mongoClient).getDatabase(eq("admin"));
             doThrow(new RuntimeException())
                     .when(mongoDatabase)
-                    .runCommand(any(ClientSession.class), argThat(arg -> "buildInfo"
-                            .equals(arg.toBsonDocument().getFirstKey())));
+                    .runCommand(argThat(arg -> "buildInfo".equals(arg.toBsonDocument().getFirstKey())));
             assertThrows(SQLException.class, () -> mongoConnection.getMetaData());
         }
+
+        private void changeLoadBalancedClusterDescription() {
+            changeClusterDescription(
+                    ClusterConnectionMode.LOAD_BALANCED,
+                    ServerDescription.builder()
+                            .address(new ServerAddress())
+                            .state(CONNECTED)
+                            .type(ServerType.LOAD_BALANCER)
+                            .ok(true)
+                            .build());
+        }
+
+        private void changeClusterDescription(
+                ClusterConnectionMode connectionMode, ServerDescription serverDescription) {
+            serverVersionCache.clusterDescriptionChanged(new ClusterDescriptionChangedEvent(
+                    new ClusterId(),
+                    new ClusterDescription(connectionMode, ClusterType.UNKNOWN, List.of(serverDescription)),
+                    new ClusterDescription(connectionMode, ClusterType.UNKNOWN, List.of())));
+        }
     }
 
     @Nested
@@ -18,29 +18,40 @@ package com.mongodb.hibernate.jdbc;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.hibernate.internal.FeatureNotSupportedException;
+import com.mongodb.hibernate.internal.mql.MqlCommandTemplates;
 import com.mongodb.hibernate.internal.type.ObjectIdJdbcType;
+import com.mongodb.session.ServerSession;
 import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLSyntaxErrorException;
 import java.sql.Time;
 import java.sql.Timestamp;
@@ -50,11 +61,15 @@ import java.util.List;
 import java.util.function.Consumer;
 import org.bson.BsonArray;
 import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
 import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.BsonInt32;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.Document;
+import org.bson.codecs.DecoderContext;
+import org.bson.io.BasicOutputBuffer;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -80,8 +95,21 @@ class MongoPreparedStatementTests {
     @Mock
     private MongoConnection mongoConnection;
 
+    @Mock
+    private ServerSession serverSession;
+
+    @BeforeEach
+    void beforeEach() {
+        lenient().doReturn(serverSession).when(clientSession).getServerSession();
+    }
+
     private MongoPreparedStatement createMongoPreparedStatement(String mql) throws SQLSyntaxErrorException {
-        return new MongoPreparedStatement(mongoDatabase, clientSession, mongoConnection, mql);
+        return new MongoPreparedStatement(
+                mongoDatabase,
+                clientSession,
+                mongoConnection,
+                new MqlCommandTemplates(1).get(mql),
+                new BasicOutputBuffer());
     }
 
     private static final String EXAMPLE_MQL =
@@ -116,7 +144,7 @@ class MongoPreparedStatementTests {
 
             doReturn(Document.parse("{ok: 1.0, n: 1}"))
                     .when(mongoDatabase)
-                    .runCommand(eq(clientSession), any(BsonDocument.class));
+                    .runCommand(any(BsonDocument.class));
 
             try (var preparedStatement = createMongoPreparedStatement(EXAMPLE_MQL)) {
 
@@ -130,7 +158,7 @@ class MongoPreparedStatementTests {
 
                 preparedStatement.executeUpdate();
 
-                verify(mongoDatabase).runCommand(eq(clientSession), commandCaptor.capture());
+                verify(mongoDatabase).runCommand(commandCaptor.capture());
                 var command = commandCaptor.getValue();
                 var expectedDoc = new BsonDocument()
                         .append("insert", new BsonString("items"))
@@ -152,6 +180,69 @@ class MongoPreparedStatementTests {
         }
     }
 
+    @Nested
+    class ExecuteBatchTests {
+
+        @Mock
+        MongoCollection<BsonDocument> mongoCollection;
+
+        @Mock
+        BulkWriteResult bulkWriteResult;
+
+        @Captor
+        private ArgumentCaptor<List<WriteModel<BsonDocument>>> writeModelsCaptor;
+
+        @Test
+        void testBoundParameterSetsCoalesced() throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(eq("books"), eq(BsonDocument.class));
+            doReturn(bulkWriteResult).when(mongoCollection).bulkWrite(anyList());
+            doReturn(true).when(bulkWriteResult).wasAcknowledged();
+
+            try (var preparedStatement = createMongoPreparedStatement(
+                    """
+                    {
+                        insert: "books",
+                        documents: [ { _id: { $undefined: true }, title: { $undefined: true } } ]
+                    }""")) {
+
+                preparedStatement.setInt(1, 1);
+                preparedStatement.setString(2, "War and Peace");
+                preparedStatement.addBatch();
+                preparedStatement.setInt(1, 2);
+                preparedStatement.setString(2, "Anna Karenina");
+                preparedStatement.addBatch();
+
+                assertArrayEquals(new int[] {1, 1}, preparedStatement.executeBatch());
+
+                verify(mongoCollection).bulkWrite(writeModelsCaptor.capture());
+                assertEquals(
+                        List.of(
+                                BsonDocument.parse("{_id: 1, title: 'War and Peace'}"),
+                                BsonDocument.parse("{_id: 2, title: 'Anna Karenina'}")),
+                        writeModelsCaptor.getValue().stream()
+                                .map(writeModel -> ((InsertOneModel<BsonDocument>) writeModel).getDocument())
+                                .toList());
+            }
+        }
+
+        @Test
+        void testAllParametersMustBeSet() throws SQLException {
+            try (var preparedStatement = createMongoPreparedStatement(EXAMPLE_MQL)) {
+                var sqlException = assertThrows(SQLException.class, preparedStatement::addBatch);
+                assertThat(sqlException.getMessage()).isEqualTo("Parameter with index [1] is not set");
+            }
+        }
+    }
+
+    @Test
+    void testComparingWithNullElementOfBoundArrayNotSupported() throws SQLException {
+        try (var preparedStatement = createMongoPreparedStatement(
+                "{aggregate: 'items', pipeline: [{$match: {_id: {$in: {$undefined: true}}}}]}")) {
+            preparedStatement.setArray(1, new MongoArray(new Integer[] {1, null}));
+            assertThrows(FeatureNotSupportedException.class, preparedStatement::executeQuery);
+        }
+    }
+
     @Test
     void testParameterIndexUnderflow() throws SQLSyntaxErrorException {
         var mongoPreparedStatement = createMongoPreparedStatement(EXAMPLE_MQL);
@@ -192,8 +283,9 @@ class MongoPreparedStatementTests {
                         ]
                     }""";
             mongoPreparedStatement = createMongoPreparedStatement(exampleQueryMql);
-            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
-            doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(anyList());
             doReturn(mongoCursor).when(aggregateIterable).cursor();
 
             lastOpenResultSet = mongoPreparedStatement.executeQuery();
@@ -210,12 +302,86 @@ class MongoPreparedStatementTests {
         void testExecuteUpdate() throws SQLException {
             doReturn(Document.parse("{n: 10}"))
                     .when(mongoDatabase)
-                    .runCommand(eq(clientSession), any(BsonDocument.class));
+                    .runCommand(any(BsonDocument.class));
             mongoPreparedStatement.executeUpdate();
             assertTrue(lastOpenResultSet.isClosed());
         }
     }
 
+    @Nested
+    class ExecuteTests {
+
+        @Mock
+        MongoCollection<ProjectedRowCodec.Row> mongoCollection;
+
+        @Captor
+        private ArgumentCaptor<BsonDocument> filterCaptor;
+
+        @Captor
+        private ArgumentCaptor<List<BsonDocument>> updateCaptor;
+
+        @Captor
+        private ArgumentCaptor<FindOneAndUpdateOptions> optionsCaptor;
+
+        @Test
+        void testFindAndModify() throws SQLException {
+            var mql =
+                    """
+                    {
+                        findAndModify: "books",
+                        query: { _id: { $eq: { $undefined: true } } },
+                        update: [ { $set: { title: { $literal: { $undefined: true } }, updatedAt: "$$NOW" } } ],
+                        new: true,
+                        fields: { updatedAt: true }
+                    }""";
+            var updatedAt = new BsonDateTime(1_700_000_000_123L);
+            var row = new ProjectedRowCodec(List.of("updatedAt"))
+                    .decode(
+                            new BsonDocumentReader(new BsonDocument("updatedAt", updatedAt)),
+                            DecoderContext.builder().build());
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(eq("books"), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(row)
+                    .when(mongoCollection)
+                    .findOneAndUpdate(filterCaptor.capture(), updateCaptor.capture(), optionsCaptor.capture());
+
+            try (var mongoPreparedStatement = createMongoPreparedStatement(mql)) {
+                mongoPreparedStatement.setInt(1, 1);
+                mongoPreparedStatement.setString(2, "War and Peace");
+                assertTrue(mongoPreparedStatement.execute());
+
+                assertAll(
+                        () -> assertEquals(BsonDocument.parse("{_id: {$eq: 1}}"), filterCaptor.getValue()),
+                        () -> assertEquals(
+                                List.of(BsonDocument.parse(
+                                        "{$set: {title: {$literal: \"War and Peace\"}, updatedAt: \"$$NOW\"}}")),
+                                updateCaptor.getValue()),
+                        () -> assertEquals(ReturnDocument.AFTER, optionsCaptor.getValue().getReturnDocument()),
+                        () -> assertFalse(optionsCaptor.getValue().isUpsert()));
+                var resultSet = mongoPreparedStatement.getResultSet();
+                assertNotNull(resultSet);
+                assertTrue(resultSet.next());
+                assertEquals(
+                        new Timestamp(updatedAt.getValue()), resultSet.getTimestamp(resultSet.findColumn("updatedAt")));
+                assertFalse(resultSet.next());
+            }
+        }
+
+        @Test
+        void testCommandNotProducingResultSet() throws SQLException {
+            try (var mongoPreparedStatement = createMongoPreparedStatement(EXAMPLE_MQL)) {
+                mongoPreparedStatement.setString(1, "");
+                mongoPreparedStatement.setString(2, "");
+                mongoPreparedStatement.setInt(3, 1);
+                mongoPreparedStatement.setBoolean(4, true);
+                mongoPreparedStatement.setString(5, "");
+                mongoPreparedStatement.setObject(6, new ObjectId(), ObjectIdJdbcType.MQL_TYPE.getVendorTypeNumber());
+                mongoPreparedStatement.setObject(7, new ObjectId(), ObjectIdJdbcType.MQL_TYPE.getVendorTypeNumber());
+                assertThrows(SQLFeatureNotSupportedException.class, mongoPreparedStatement::execute);
+            }
+        }
+    }
+
     @Test
     void testCheckClosed() throws SQLException {
         var mql =
@@ -271,6 +437,7 @@ class MongoPreparedStatementTests {
         assertAll(
                 () -> asserter.accept(mongoPreparedStatement::executeQuery),
                 () -> asserter.accept(mongoPreparedStatement::executeUpdate),
+                () -> asserter.accept(mongoPreparedStatement::execute),
                 () -> asserter.accept(mongoPreparedStatement::addBatch),
                 () -> asserter.accept(() -> mongoPreparedStatement.setQueryTimeout(20_000)),
                 () -> asserter.accept(() -> mongoPreparedStatement.setFetchSize(10)));
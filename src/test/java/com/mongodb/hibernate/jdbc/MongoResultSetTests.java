@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
@@ -29,14 +30,20 @@ import static org.mockito.Mockito.doReturn;
 import com.mongodb.client.MongoCursor;
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.Calendar;
 import java.util.List;
+import java.util.TimeZone;
 import java.util.UUID;
 import java.util.function.Consumer;
+import org.bson.BsonArray;
 import org.bson.BsonBinary;
 import org.bson.BsonBoolean;
+import org.bson.BsonDateTime;
 import org.bson.BsonDecimal128;
 import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.BsonDouble;
 import org.bson.BsonInt32;
 import org.bson.BsonInt64;
@@ -44,6 +51,8 @@ import org.bson.BsonNull;
 import org.bson.BsonObjectId;
 import org.bson.BsonString;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.AutoClose;
@@ -61,14 +70,17 @@ class MongoResultSetTests {
     private static final List<String> FIELDS = List.of("id", "title", "publishYear");
 
     @Mock
-    private MongoCursor<BsonDocument> mongoCursor;
+    private Statement statement;
+
+    @Mock
+    private MongoCursor<ProjectedRowCodec.Row> mongoCursor;
 
     @AutoClose
     private MongoResultSet mongoResultSet;
 
     @BeforeEach
     void beforeEach() {
-        mongoResultSet = new MongoResultSet(mongoCursor, FIELDS);
+        mongoResultSet = new MongoResultSet(statement, mongoCursor, FIELDS, 0);
     }
 
     @Test
@@ -87,18 +99,66 @@ class MongoResultSetTests {
         checkMethodsWithOpenPrecondition(MongoResultSetTests::assertThrowsClosedException);
     }
 
+    @Test
+    void testFindColumn() throws SQLException {
+        assertAll(
+                () -> assertEquals(2, mongoResultSet.findColumn("title")),
+                () -> assertEquals(3, mongoResultSet.findColumn("PUBLISHYEAR")),
+                () -> assertThrows(SQLException.class, () -> mongoResultSet.findColumn("author")));
+    }
+
+    @Test
+    void testGetMetaData() throws SQLException {
+        assertEquals(FIELDS.size(), mongoResultSet.getMetaData().getColumnCount());
+    }
+
+    @Test
+    void testGetStatement() throws SQLException {
+        assertSame(statement, mongoResultSet.getStatement());
+    }
+
     @Nested
     class GettersTests {
 
         private void createResultSetWith(BsonValue value) throws SQLException {
-            var bsonDocument = new BsonDocument().append("field", value);
+            createResultSetWith(new BsonDocument().append("field", value));
+        }
 
+        private void createResultSetWith(BsonDocument bsonDocument) throws SQLException {
             doReturn(true).when(mongoCursor).hasNext();
-            doReturn(bsonDocument).when(mongoCursor).next();
-            mongoResultSet = new MongoResultSet(mongoCursor, singletonList("field"));
+            var fieldNames = singletonList("field");
+            doReturn(new ProjectedRowCodec(fieldNames)
+                            .decode(new BsonDocumentReader(bsonDocument), DecoderContext.builder().build()))
+                    .when(mongoCursor)
+                    .next();
+            mongoResultSet = new MongoResultSet(statement, mongoCursor, fieldNames, 0);
             assertTrue(mongoResultSet.next());
         }
 
+        @Test
+        void testGettersForMissingField() throws SQLException {
+            createResultSetWith(new BsonDocument("otherField", new BsonString("Hello World")));
+            assertAll(
+                    () -> assertNull(mongoResultSet.getString(1)),
+                    () -> assertTrue(mongoResultSet.wasNull()));
+        }
+
+        @Test
+        void testGettersForDocument() throws SQLException {
+            var value = new BsonDocument("nested", new BsonArray(List.of(new BsonInt32(1), new BsonString("two"))));
+            createResultSetWith(new BsonDocument()
+                    .append("before", new BsonDocument("skipped", BsonBoolean.TRUE))
+                    .append("field", value)
+                    .append("after", new BsonInt32(3)));
+            assertAll(
+                    () -> assertThrowsTypeMismatchException(() -> mongoResultSet.getString(1)),
+                    () -> assertThrowsTypeMismatchException(() -> mongoResultSet.getInt(1)),
+                    () -> assertThat(mongoResultSet.getObject(1, BsonDocument.class))
+                            .isInstanceOf(RawBsonDocument.class)
+                            .isEqualTo(value),
+                    () -> assertFalse(mongoResultSet.wasNull()));
+        }
+
         @Test
         void testGettersForNull() throws SQLException {
             createResultSetWith(BsonNull.VALUE);
@@ -109,6 +169,7 @@ class MongoResultSetTests {
                     () -> assertEquals(0L, mongoResultSet.getLong(1)),
                     () -> assertEquals(0D, mongoResultSet.getDouble(1)),
                     () -> assertNull(mongoResultSet.getBytes(1)),
+                    () -> assertNull(mongoResultSet.getTimestamp(1)),
                     () -> assertNull(mongoResultSet.getBigDecimal(1)),
                     () -> assertNull(mongoResultSet.getObject(1, ObjectId.class)),
                     () -> assertTrue(mongoResultSet.wasNull()));
@@ -223,6 +284,20 @@ class MongoResultSetTests {
                     () -> assertFalse(mongoResultSet.wasNull()));
         }
 
+        @Test
+        void testGettersForDateTime() throws SQLException {
+            var millis = 1_700_000_000_123L;
+            createResultSetWith(new BsonDateTime(millis));
+            assertAll(
+                    () -> assertThrowsTypeMismatchException(() -> mongoResultSet.getString(1)),
+                    () -> assertThrowsTypeMismatchException(() -> mongoResultSet.getLong(1)),
+                    () -> assertEquals(new Timestamp(millis), mongoResultSet.getTimestamp(1)),
+                    () -> assertEquals(
+                            new Timestamp(millis),
+                            mongoResultSet.getTimestamp(1, Calendar.getInstance(TimeZone.getTimeZone("UTC")))),
+                    () -> assertFalse(mongoResultSet.wasNull()));
+        }
+
         @Test
         void testGettersForObject() throws SQLException {
             var objectId = new ObjectId(1, 0);
@@ -248,6 +323,9 @@ class MongoResultSetTests {
                 () -> asserter.accept(() -> mongoResultSet.wasNull()),
                 () -> asserter.accept(() -> mongoResultSet.getMetaData()),
                 () -> asserter.accept(() -> mongoResultSet.findColumn("id")),
+                () -> asserter.accept(() -> mongoResultSet.getStatement()),
+                () -> asserter.accept(() -> mongoResultSet.setFetchSize(10)),
+                () -> asserter.accept(mongoResultSet::getFetchSize),
                 () -> asserter.accept(() -> mongoResultSet.getMetaData()),
                 () -> asserter.accept(() -> mongoResultSet.isWrapperFor(MongoResultSet.class)));
     }
@@ -16,30 +16,49 @@
 
 package com.mongodb.hibernate.jdbc;
 
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
-
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.ClientSession;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.session.ServerSession;
+import java.sql.BatchUpdateException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.SQLSyntaxErrorException;
+import java.sql.Statement;
 import java.util.List;
 import java.util.function.BiConsumer;
 import org.bson.BsonDocument;
@@ -49,6 +68,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -64,11 +87,15 @@ class MongoStatementTests {
     @Mock
     private MongoConnection mongoConnection;
 
+    @Mock
+    private ServerSession serverSession;
+
     private MongoStatement mongoStatement;
 
     @BeforeEach
     void beforeEach() {
         mongoStatement = new MongoStatement(mongoDatabase, clientSession, mongoConnection);
+        lenient().doReturn(serverSession).when(clientSession).getServerSession();
     }
 
     @Test
@@ -87,8 +114,9 @@ class MongoStatementTests {
             @Mock MongoCursor<BsonDocument> mongoCursor)
             throws SQLException {
 
-        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
-        doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+        doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+        doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+        doReturn(aggregateIterable).when(mongoCollection).aggregate(anyList());
         doReturn(mongoCursor).when(aggregateIterable).cursor();
 
         var query =
@@ -107,6 +135,270 @@ class MongoStatementTests {
         assertTrue(resultSet.isClosed());
     }
 
+    @Nested
+    class FetchSizeTests {
+
+        @Mock
+        MongoCollection<BsonDocument> mongoCollection;
+
+        @Mock
+        AggregateIterable<BsonDocument> aggregateIterable;
+
+        @Mock
+        MongoCursor<BsonDocument> mongoCursor;
+
+        private final String exampleQueryMql =
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ]
+                }""";
+
+        @BeforeEach
+        void beforeEach() {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(anyList());
+            doReturn(mongoCursor).when(aggregateIterable).cursor();
+        }
+
+        @Test
+        void testFetchSizeAppliedAsBatchSize() throws SQLException {
+            mongoStatement.setFetchSize(50);
+            var resultSet = mongoStatement.executeQuery(exampleQueryMql);
+            verify(aggregateIterable).batchSize(50);
+            assertEquals(50, resultSet.getFetchSize());
+        }
+
+        @Test
+        void testDefaultFetchSizeLeavesBatchSizeToServer() throws SQLException {
+            assertEquals(0, mongoStatement.getFetchSize());
+            mongoStatement.executeQuery(exampleQueryMql);
+            verify(aggregateIterable, never()).batchSize(anyInt());
+        }
+
+        @Test
+        void testNegativeFetchSizeRejected() {
+            assertThrows(SQLException.class, () -> mongoStatement.setFetchSize(-1));
+        }
+    }
+
+    @Nested
+    class QueryTimeoutTests {
+
+        @Test
+        void testCancelKillsOpenCursor(
+                @Mock MongoCollection<BsonDocument> mongoCollection,
+                @Mock AggregateIterable<BsonDocument> aggregateIterable,
+                @Mock MongoCursor<BsonDocument> mongoCursor)
+                throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(anyList());
+            doReturn(mongoCursor).when(aggregateIterable).cursor();
+            var serverCursor = new ServerCursor(5, new ServerAddress());
+            doReturn(serverCursor).when(mongoCursor).getServerCursor();
+
+            mongoStatement.executeQuery("{aggregate: 'books', pipeline: [{$project: {_id: 0, title: 1}}]}");
+            mongoStatement.cancel();
+
+            verify(mongoConnection, never()).killSessionOperations(any());
+            verify(mongoConnection).killCursor("books", serverCursor, null);
+        }
+
+        @Test
+        void testQueryTimeoutAppliedAsMaxTimeToQuery(
+                @Mock MongoCollection<BsonDocument> mongoCollection,
+                @Mock AggregateIterable<BsonDocument> aggregateIterable,
+                @Mock MongoCursor<BsonDocument> mongoCursor)
+                throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(anyList());
+            doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+            mongoStatement.setQueryTimeout(3);
+            mongoStatement.executeQuery(
+                    """
+                    {
+                        aggregate: "books",
+                        pipeline: [
+                            { $project: { _id: 0, title: 1 } }
+                        ]
+                    }""");
+            verify(aggregateIterable).maxTime(3, SECONDS);
+        }
+
+        @Test
+        void testQueryTimeoutAppliedAsMaxTimeMsToUpdate() throws SQLException {
+            var commandCaptor = ArgumentCaptor.forClass(BsonDocument.class);
+            doReturn(new Document("n", 1)).when(mongoDatabase).runCommand(commandCaptor.capture());
+
+            mongoStatement.setQueryTimeout(3);
+            mongoStatement.executeUpdate(
+                    """
+                    {
+                        delete: "orders",
+                        deletes: [ { q: { status: "D" }, limit: 0 } ]
+                    }""");
+            assertEquals(
+                    BsonDocument.parse(
+                            """
+                            {
+                                delete: "orders",
+                                deletes: [ { q: { status: "D" }, limit: 0 } ],
+                                maxTimeMS: { $numberLong: "3000" }
+                            }"""),
+                    commandCaptor.getValue());
+        }
+
+        @Test
+        void testQueryTimeoutAppliedAsMaxTimeMsToSingleDocumentWriteInTransaction() throws SQLException {
+            doReturn(true).when(clientSession).hasActiveTransaction();
+            var commandCaptor = ArgumentCaptor.forClass(BsonDocument.class);
+            doReturn(new Document("n", 1)).when(mongoDatabase).runCommand(same(clientSession), commandCaptor.capture());
+
+            mongoStatement.setQueryTimeout(3);
+            mongoStatement.executeUpdate("{delete: 'books', deletes: [{q: {_id: 1}, limit: 1}]}");
+            assertEquals(
+                    BsonDocument.parse(
+                            "{delete: 'books', deletes: [{q: {_id: 1}, limit: 1}], maxTimeMS: {$numberLong: '3000'}}"),
+                    commandCaptor.getValue());
+            verify(mongoDatabase, never()).getCollection(anyString(), eq(BsonDocument.class));
+        }
+
+        @Test
+        void testQueryTimeoutAppliedAsMaxTimeMsToBatchInTransaction() throws SQLException {
+            doReturn(true).when(clientSession).hasActiveTransaction();
+            var commandCaptor = ArgumentCaptor.forClass(BsonDocument.class);
+            doReturn(new Document("n", 1)).when(mongoDatabase).runCommand(same(clientSession), commandCaptor.capture());
+
+            mongoStatement.setQueryTimeout(3);
+            mongoStatement.addBatch("{delete: 'books', deletes: [{q: {_id: 1}, limit: 1}]}");
+            mongoStatement.addBatch("{delete: 'books', deletes: [{q: {_id: 2}, limit: 1}]}");
+            assertArrayEquals(new int[] {1, 1}, mongoStatement.executeBatch());
+            assertEquals(
+                    List.of(
+                            BsonDocument.parse("{delete: 'books', deletes: [{q: {_id: 1}, limit: 1}],"
+                                    + " maxTimeMS: {$numberLong: '3000'}}"),
+                            BsonDocument.parse("{delete: 'books', deletes: [{q: {_id: 2}, limit: 1}],"
+                                    + " maxTimeMS: {$numberLong: '3000'}}")),
+                    commandCaptor.getAllValues());
+            verify(mongoDatabase, never()).getCollection(anyString(), eq(BsonDocument.class));
+        }
+
+        @Test
+        void testNoQueryTimeoutByDefault() throws SQLException {
+            assertEquals(0, mongoStatement.getQueryTimeout());
+        }
+
+        @Test
+        void testNegativeQueryTimeoutRejected() {
+            assertThrows(SQLException.class, () -> mongoStatement.setQueryTimeout(-1));
+        }
+    }
+
+    @Nested
+    class TransactionStartTests {
+
+        private final String exampleQueryMql =
+                """
+                {
+                    aggregate: "books",
+                    pipeline: [
+                        { $project: { _id: 0, title: 1 } }
+                    ]
+                }""";
+
+        @BeforeEach
+        void beforeEach() throws SQLException {
+            doReturn(false).when(mongoConnection).getAutoCommit();
+        }
+
+        @Test
+        void testQueryStartsTransaction(
+                @Mock MongoCollection<BsonDocument> mongoCollection,
+                @Mock AggregateIterable<BsonDocument> aggregateIterable,
+                @Mock MongoCursor<BsonDocument> mongoCursor)
+                throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+            doReturn(mongoCursor).when(aggregateIterable).cursor();
+            doReturn(false, true).when(clientSession).hasActiveTransaction();
+
+            mongoStatement.executeQuery(exampleQueryMql);
+            verify(clientSession).startTransaction();
+        }
+
+        @Test
+        void testQueryDoesNotStartTransactionWhenStartedOnFirstWrite(
+                @Mock MongoCollection<BsonDocument> mongoCollection,
+                @Mock AggregateIterable<BsonDocument> aggregateIterable,
+                @Mock MongoCursor<BsonDocument> mongoCursor)
+                throws SQLException {
+            doReturn(true).when(mongoConnection).isTransactionStartOnFirstWrite();
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(anyList());
+            doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+            mongoStatement.executeQuery(exampleQueryMql);
+            verify(clientSession, never()).startTransaction();
+        }
+
+        @Test
+        void testReadOnlyQueryDoesNotStartTransactionAndReadsWithConfiguredReadPreference(
+                @Mock MongoCollection<BsonDocument> mongoCollection,
+                @Mock AggregateIterable<BsonDocument> aggregateIterable,
+                @Mock MongoCursor<BsonDocument> mongoCursor)
+                throws SQLException {
+            var readPreference = ReadPreference.secondaryPreferred();
+            doReturn(true).when(mongoConnection).isReadOnly();
+            doReturn(readPreference).when(mongoConnection).getQueryReadPreference();
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(mongoCollection).when(mongoCollection).withReadPreference(readPreference);
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(anyList());
+            doReturn(mongoCursor).when(aggregateIterable).cursor();
+
+            mongoStatement.executeQuery(exampleQueryMql);
+            verify(clientSession, never()).startTransaction();
+            verify(mongoCollection).withReadPreference(readPreference);
+        }
+
+        @Test
+        void testUpdateStartsTransaction() throws SQLException {
+            doReturn(new Document("n", 1)).when(mongoDatabase).runCommand(same(clientSession), any(BsonDocument.class));
+            doReturn(false, true).when(clientSession).hasActiveTransaction();
+
+            mongoStatement.executeUpdate(
+                    """
+                    {
+                        delete: "orders",
+                        deletes: [ { q: { status: "D" }, limit: 0 } ]
+                    }""");
+            verify(clientSession).startTransaction();
+        }
+
+        @Test
+        void testUpdateWithAutoCommitUsesImplicitSession() throws SQLException {
+            doReturn(true).when(mongoConnection).getAutoCommit();
+            doReturn(new Document("n", 1)).when(mongoDatabase).runCommand(any(BsonDocument.class));
+
+            mongoStatement.executeUpdate(
+                    """
+                    {
+                        delete: "orders",
+                        deletes: [ { q: { status: "D" }, limit: 0 } ]
+                    }""");
+            verify(clientSession, never()).startTransaction();
+            verify(clientSession, never()).getServerSession();
+        }
+    }
+
     @Nested
     class ExecuteMethodClosesLastOpenResultSetTests {
 
@@ -145,8 +437,9 @@ class MongoStatementTests {
 
         @BeforeEach
         void beforeEach() throws SQLException {
-            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(BsonDocument.class));
-            doReturn(aggregateIterable).when(mongoCollection).aggregate(same(clientSession), anyList());
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(anyString(), eq(ProjectedRowCodec.Row.class));
+            doReturn(mongoCollection).when(mongoCollection).withCodecRegistry(any());
+            doReturn(aggregateIterable).when(mongoCollection).aggregate(anyList());
             doReturn(mongoCursor).when(aggregateIterable).cursor();
 
             lastOpenResultSet = mongoStatement.executeQuery(exampleQueryMql);
@@ -163,7 +456,7 @@ class MongoStatementTests {
         void testExecuteUpdate() throws SQLException {
             doReturn(Document.parse("{n: 10}"))
                     .when(mongoDatabase)
-                    .runCommand(eq(clientSession), any(BsonDocument.class));
+                    .runCommand(any(BsonDocument.class));
             mongoStatement.executeUpdate(exampleUpdateMql);
             assertTrue(lastOpenResultSet.isClosed());
         }
@@ -176,11 +469,144 @@ class MongoStatementTests {
 
         @Test
         void testExecuteBatch() throws SQLException {
-            assertThrows(SQLFeatureNotSupportedException.class, () -> mongoStatement.executeBatch());
+            mongoStatement.executeBatch();
             assertTrue(lastOpenResultSet.isClosed());
         }
     }
 
+    @Nested
+    class ExecuteBatchTests {
+
+        @Mock
+        MongoCollection<BsonDocument> mongoCollection;
+
+        @Mock
+        BulkWriteResult bulkWriteResult;
+
+        @Captor
+        private ArgumentCaptor<List<WriteModel<BsonDocument>>> writeModelsCaptor;
+
+        @Test
+        void testCommandsCoalesced() throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(eq("books"), eq(BsonDocument.class));
+            doReturn(bulkWriteResult).when(mongoCollection).bulkWrite(anyList());
+            doReturn(true).when(bulkWriteResult).wasAcknowledged();
+            doReturn(1).when(bulkWriteResult).getMatchedCount();
+            doReturn(1).when(bulkWriteResult).getDeletedCount();
+
+            mongoStatement.addBatch("{insert: 'books', documents: [{_id: 1}, {_id: 2}]}");
+            mongoStatement.addBatch("{update: 'books', updates: [{q: {_id: 1}, u: {$set: {title: 'Dune'}}}]}");
+            mongoStatement.addBatch("{delete: 'books', deletes: [{q: {_id: 2}, limit: 0}]}");
+
+            assertArrayEquals(new int[] {2, 1, 1}, mongoStatement.executeBatch());
+            verify(mongoCollection).bulkWrite(writeModelsCaptor.capture());
+            assertThat(writeModelsCaptor.getValue())
+                    .hasSize(4)
+                    .hasExactlyElementsOfTypes(
+                            InsertOneModel.class, InsertOneModel.class, UpdateOneModel.class, DeleteManyModel.class);
+            assertArrayEquals(new int[0], mongoStatement.executeBatch());
+        }
+
+        @Test
+        void testUpdateCountsNotInferrable() throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(eq("books"), eq(BsonDocument.class));
+            doReturn(bulkWriteResult).when(mongoCollection).bulkWrite(anyList());
+            doReturn(true).when(bulkWriteResult).wasAcknowledged();
+            doReturn(3).when(bulkWriteResult).getMatchedCount();
+
+            var updateMql = "{update: 'books', updates: [{q: {}, u: {$set: {title: 'Dune'}}, multi: true}]}";
+            mongoStatement.addBatch(updateMql);
+            mongoStatement.addBatch(updateMql);
+
+            assertArrayEquals(
+                    new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}, mongoStatement.executeBatch());
+        }
+
+        @ParameterizedTest
+        @CsvSource({"2,1", "1,0"})
+        void testUpdateCountsOfSingleDocumentWrites(int matchedCount, int expectedUpdateCount) throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(eq("books"), eq(BsonDocument.class));
+            doReturn(bulkWriteResult).when(mongoCollection).bulkWrite(anyList());
+            doReturn(true).when(bulkWriteResult).wasAcknowledged();
+            doReturn(matchedCount).when(bulkWriteResult).getMatchedCount();
+
+            mongoStatement.addBatch(
+                    "{update: 'books', updates: [{q: {_id: 1, version: 0}, u: {$set: {version: 1}}, multi: false}]}");
+            mongoStatement.addBatch(
+                    "{update: 'books', updates: [{q: {_id: 2, version: 0}, u: {$set: {version: 1}}, multi: false}]}");
+
+            assertArrayEquals(new int[] {expectedUpdateCount, expectedUpdateCount}, mongoStatement.executeBatch());
+        }
+
+        @Test
+        void testBatchUpdateExceptionThrownWhenDBAccessFailed() throws SQLException {
+            var dbAccessException = new RuntimeException();
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(eq("books"), eq(BsonDocument.class));
+            doThrow(dbAccessException).when(mongoCollection).bulkWrite(anyList());
+
+            mongoStatement.addBatch("{insert: 'books', documents: [{_id: 1}]}");
+
+            var batchUpdateException = assertThrows(BatchUpdateException.class, () -> mongoStatement.executeBatch());
+            assertAll(
+                    () -> assertEquals(dbAccessException, batchUpdateException.getCause()),
+                    () -> assertArrayEquals(new int[0], batchUpdateException.getUpdateCounts()));
+        }
+
+        @Test
+        void testQueryCannotBeAddedToBatch() {
+            var sqlException = assertThrows(
+                    SQLException.class,
+                    () -> mongoStatement.addBatch("{aggregate: 'books', pipeline: [{$project: {title: 1}}]}"));
+            assertThat(sqlException.getMessage()).contains("can be added to a batch");
+        }
+    }
+
+    @Nested
+    class ExecuteUpdateTests {
+
+        @Mock
+        MongoCollection<BsonDocument> mongoCollection;
+
+        @Mock
+        BulkWriteResult bulkWriteResult;
+
+        @Captor
+        private ArgumentCaptor<List<WriteModel<BsonDocument>>> writeModelsCaptor;
+
+        @Test
+        void testSingleDocumentWritesExecutedAsBulkWrites() throws SQLException {
+            doReturn(mongoCollection).when(mongoDatabase).getCollection(eq("books"), eq(BsonDocument.class));
+            doReturn(bulkWriteResult).when(mongoCollection).bulkWrite(anyList());
+            doReturn(true).when(bulkWriteResult).wasAcknowledged();
+            doReturn(1).when(bulkWriteResult).getMatchedCount();
+            doReturn(1).when(bulkWriteResult).getDeletedCount();
+
+            var updateMql = "{update: 'books', updates: [{q: {_id: 1}, u: {$set: {title: 'Dune'}}, multi: false}]}";
+            var deleteMql = "{delete: 'books', deletes: [{q: {_id: 1}, limit: 1}]}";
+
+            assertAll(
+                    () -> assertEquals(1, mongoStatement.executeUpdate(updateMql)),
+                    () -> assertEquals(1, mongoStatement.executeUpdate(deleteMql)));
+            verify(mongoCollection, times(2)).bulkWrite(writeModelsCaptor.capture());
+            verify(mongoDatabase, never()).runCommand(any(ClientSession.class), any(BsonDocument.class));
+            var writeModels = writeModelsCaptor.getAllValues();
+            assertAll(
+                    () -> assertThat(writeModels.get(0)).singleElement().isInstanceOf(UpdateOneModel.class),
+                    () -> assertThat(writeModels.get(1)).singleElement().isInstanceOf(DeleteOneModel.class));
+        }
+
+        @Test
+        void testMultiDocumentWriteExecutedAsCommand() throws SQLException {
+            doReturn(new Document("n", 3)).when(mongoDatabase).runCommand(any(BsonDocument.class));
+
+            assertEquals(
+                    3,
+                    mongoStatement.executeUpdate(
+                            "{update: 'books', updates: [{q: {}, u: {$set: {title: 'Dune'}}, multi: true}]}"));
+            verify(mongoDatabase, never()).getCollection(anyString(), eq(BsonDocument.class));
+        }
+    }
+
     @Test
     void testGetProjectStageFieldNames() {
         BiConsumer<String, List<String>> successAsserter = (projectStage, expectedFieldNames) -> assertEquals(
@@ -229,7 +655,7 @@ class MongoStatementTests {
         void testSQLExceptionThrownWhenDBAccessFailed() {
 
             var dbAccessException = new RuntimeException();
-            doThrow(dbAccessException).when(mongoDatabase).runCommand(same(clientSession), any(BsonDocument.class));
+            doThrow(dbAccessException).when(mongoDatabase).runCommand(any(BsonDocument.class));
             String mql =
                     """
                     {
@@ -285,6 +711,10 @@ class MongoStatementTests {
                 () -> assertThrowsClosedException(mongoStatement::clearBatch),
                 () -> assertThrowsClosedException(mongoStatement::executeBatch),
                 () -> assertThrowsClosedException(mongoStatement::getConnection),
+                () -> assertThrowsClosedException(() -> mongoStatement.setFetchSize(10)),
+                () -> assertThrowsClosedException(mongoStatement::getFetchSize),
+                () -> assertThrowsClosedException(() -> mongoStatement.setQueryTimeout(10)),
+                () -> assertThrowsClosedException(mongoStatement::getQueryTimeout),
                 () -> assertThrowsClosedException(() -> mongoStatement.isWrapperFor(MongoStatement.class)));
     }
 
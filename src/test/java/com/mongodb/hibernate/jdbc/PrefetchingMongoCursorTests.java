@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.MongoCursor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchingMongoCursorTests {
+
+    @Mock
+    private MongoCursor<BsonDocument> mongoCursor;
+
+    @Mock
+    private ClientSession clientSession;
+
+    private ExecutorService fetchExecutor;
+
+    @BeforeEach
+    void beforeEach() {
+        fetchExecutor = PrefetchingMongoCursor.createFetchExecutor(1);
+    }
+
+    @AfterEach
+    void afterEach() {
+        fetchExecutor.shutdownNow();
+    }
+
+    @Test
+    void testDocumentsOfAllBatchesReturnedInOrder() {
+        var documents = List.of(document(1), document(2), document(3));
+        doReturn(true, true, false).when(mongoCursor).hasNext();
+        doReturn(documents.get(0), documents.get(1), documents.get(2)).when(mongoCursor).next();
+        doReturn(2, 1, 0, 1, 0).when(mongoCursor).available();
+
+        try (var cursor = new PrefetchingMongoCursor<>(mongoCursor, clientSession, 1, fetchExecutor)) {
+            var actualDocuments = new ArrayList<BsonDocument>();
+            while (cursor.hasNext()) {
+                actualDocuments.add(cursor.next());
+            }
+            assertAll(
+                    () -> assertEquals(documents, actualDocuments),
+                    () -> assertFalse(cursor.hasNext()),
+                    () -> assertThrows(NoSuchElementException.class, cursor::next));
+        }
+        verify(mongoCursor).close();
+    }
+
+    @Test
+    void testFailureToFetchRethrown() {
+        var failure = new RuntimeException();
+        doThrow(failure).when(mongoCursor).hasNext();
+
+        try (var cursor = new PrefetchingMongoCursor<>(mongoCursor, clientSession, 1, fetchExecutor)) {
+            assertSame(failure, assertThrows(RuntimeException.class, cursor::hasNext));
+            assertFalse(cursor.hasNext());
+        }
+    }
+
+    @Test
+    void testCloseStopsFetching() throws InterruptedException {
+        doReturn(true).when(mongoCursor).hasNext();
+        doReturn(document(1)).when(mongoCursor).next();
+        doReturn(0).when(mongoCursor).available();
+
+        var cursor = new PrefetchingMongoCursor<>(mongoCursor, clientSession, 1, fetchExecutor);
+        assertEquals(document(1), cursor.next());
+        cursor.close();
+
+        verify(mongoCursor).close();
+        fetchExecutor.shutdown();
+        assertTrue(fetchExecutor.awaitTermination(10, SECONDS));
+    }
+
+    @Test
+    void testTryNextDoesNotWait() {
+        doReturn(true, false).when(mongoCursor).hasNext();
+        doReturn(document(1)).when(mongoCursor).next();
+        doReturn(0).when(mongoCursor).available();
+
+        try (var cursor = new PrefetchingMongoCursor<>(mongoCursor, clientSession, 1, fetchExecutor)) {
+            BsonDocument document;
+            while ((document = cursor.tryNext()) == null) {
+                Thread.onSpinWait();
+            }
+            assertEquals(document(1), document);
+            assertFalse(cursor.hasNext());
+            assertNull(cursor.tryNext());
+        }
+    }
+
+    @Test
+    void testNotPrefetchingWhenAllFetchingThreadsBusy() {
+        var busy = new CountDownLatch(1);
+        fetchExecutor.execute(() -> {
+            try {
+                busy.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        try {
+            assertSame(
+                    mongoCursor,
+                    PrefetchingMongoCursor.prefetchIfPossible(mongoCursor, clientSession, 1, fetchExecutor));
+        } finally {
+            busy.countDown();
+        }
+    }
+
+    private static BsonDocument document(int id) {
+        return new BsonDocument("_id", new BsonInt32(id));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.junit.jupiter.api.Test;
+
+class ProjectedRowCodecTests {
+
+    @Test
+    void decode() {
+        var codec = new ProjectedRowCodec(List.of("int", "long", "double", "boolean", "string", "document", "missing"));
+        var row = codec.decode(
+                RawBsonDocument.parse(
+                                """
+                                {
+                                    skipped: {int: 0},
+                                    long: {$numberLong: "2"},
+                                    int: 1,
+                                    double: 3.5,
+                                    boolean: true,
+                                    string: "four",
+                                    document: {nested: [5]}
+                                }""")
+                        .asBsonReader(),
+                DecoderContext.builder().build());
+        assertAll(
+                () -> assertEquals(1, row.getInt(0)),
+                () -> assertEquals(2L, row.getLong(1)),
+                () -> assertEquals(3.5, row.getDouble(2)),
+                () -> assertTrue(row.getBoolean(3)),
+                () -> assertEquals(BsonType.INT32, row.getType(0)),
+                () -> assertEquals(new BsonInt32(1), row.getValue(0)),
+                () -> assertEquals(new BsonInt64(2), row.getValue(1)),
+                () -> assertEquals(new BsonDouble(3.5), row.getValue(2)),
+                () -> assertEquals(BsonBoolean.TRUE, row.getValue(3)),
+                () -> assertEquals(new BsonString("four"), row.getValue(4)),
+                () -> assertEquals(BsonDocument.parse("{nested: [5]}"), row.getValue(5)),
+                () -> assertInstanceOf(RawBsonDocument.class, row.getValue(5)),
+                () -> assertNull(row.getType(6)),
+                () -> assertNull(row.getValue(6)));
+    }
+
+    @Test
+    void decodeEmbeddedDocumentFields() {
+        var codec = new ProjectedRowCodec(List.of("title", "c1_0.name", "c1_0._id", "missing.field", "title2.field"));
+        var row = codec.decode(
+                RawBsonDocument.parse(
+                                """
+                                {
+                                    c1_0: {_id: 1, skipped: 0, name: "Orwell"},
+                                    title: "1984",
+                                    title2: "not a document"
+                                }""")
+                        .asBsonReader(),
+                DecoderContext.builder().build());
+        assertAll(
+                () -> assertEquals(new BsonString("1984"), row.getValue(0)),
+                () -> assertEquals(new BsonString("Orwell"), row.getValue(1)),
+                () -> assertEquals(1, row.getInt(2)),
+                () -> assertNull(row.getValue(3)),
+                () -> assertNull(row.getValue(4)));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.hibernate.jdbc;
+
+import static com.mongodb.connection.ServerConnectionState.CONNECTED;
+import static com.mongodb.connection.ServerConnectionState.CONNECTING;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ClusterType;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.connection.ServerType;
+import com.mongodb.event.ClusterDescriptionChangedEvent;
+import com.mongodb.hibernate.jdbc.ServerVersionCache.ServerVersion;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ServerVersionCacheTests {
+
+    private ServerVersionCache serverVersionCache;
+    private ClusterDescription clusterDescription;
+
+    @BeforeEach
+    void beforeEach() {
+        serverVersionCache = new ServerVersionCache(0);
+        clusterDescription = new ClusterDescription(ClusterConnectionMode.SINGLE, ClusterType.UNKNOWN, List.of());
+    }
+
+    @Test
+    void testVersionDerivedFromWireVersion() throws SQLException {
+        changeClusterDescription(ClusterConnectionMode.SINGLE, createServerDescription(25));
+        assertEquals(new ServerVersion("8.0", 8, 0), serverVersionCache.get());
+    }
+
+    @Test
+    void testVersionChangesWhenWireVersionChanges() throws SQLException {
+        changeClusterDescription(ClusterConnectionMode.SINGLE, createServerDescription(25));
+        changeClusterDescription(ClusterConnectionMode.SINGLE, createServerDescription(21));
+        assertEquals(new ServerVersion("7.0", 7, 0), serverVersionCache.get());
+    }
+
+    @Test
+    void testLowestVersionOfServers() throws SQLException {
+        changeClusterDescription(
+                ClusterConnectionMode.MULTIPLE,
+                createServerDescription(25),
+                createServerDescription(21),
+                ServerDescription.builder()
+                        .address(new ServerAddress("unknown"))
+                        .state(CONNECTING)
+                        .build());
+        assertEquals(new ServerVersion("7.0", 7, 0), serverVersionCache.get());
+    }
+
+    @Test
+    void testLatestKnownVersionOfNewerWireVersion() throws SQLException {
+        changeClusterDescription(ClusterConnectionMode.SINGLE, createServerDescription(1000));
+        assertEquals(new ServerVersion("8.2", 8, 2), serverVersionCache.get());
+    }
+
+    @Test
+    void testUnknownVersionOfLoadBalancedDeployment() throws SQLException {
+        changeClusterDescription(
+                ClusterConnectionMode.LOAD_BALANCED,
+                ServerDescription.builder()
+                        .address(new ServerAddress())
+                        .state(CONNECTED)
+                        .type(ServerType.LOAD_BALANCER)
+                        .ok(true)
+                        .build());
+        assertNull(serverVersionCache.get());
+    }
+
+    @Test
+    void testTimesOutWhenNoServerDiscovered() {
+        assertThrows(SQLException.class, () -> serverVersionCache.get());
+    }
+
+    @Test
+    void testWaitsForServerToBeDiscovered() throws Exception {
+        serverVersionCache = new ServerVersionCache(SECONDS.toMillis(30));
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            var serverVersion = executor.submit(() -> serverVersionCache.get());
+            changeClusterDescription(ClusterConnectionMode.SINGLE, createServerDescription(25));
+            assertEquals(new ServerVersion("8.0", 8, 0), serverVersion.get(30, SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void changeClusterDescription(
+            ClusterConnectionMode connectionMode, ServerDescription... serverDescriptions) {
+        var newClusterDescription =
+                new ClusterDescription(connectionMode, ClusterType.UNKNOWN, List.of(serverDescriptions));
+        serverVersionCache.clusterDescriptionChanged(
+                new ClusterDescriptionChangedEvent(new ClusterId(), newClusterDescription, clusterDescription));
+        clusterDescription = newClusterDescription;
+    }
+
+    private static ServerDescription createServerDescription(int maxWireVersion) {
+        return ServerDescription.builder()
+                .address(new ServerAddress("localhost", 27017 + maxWireVersion))
+                .state(CONNECTED)
+                .ok(true)
+                .maxWireVersion(maxWireVersion)
+                .build();
+    }
+}